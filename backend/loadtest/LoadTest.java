@@ -0,0 +1,151 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load test for the read endpoints.
+ *
+ * <p>Logs in with the sample user, then keeps a fixed number of concurrent
+ * clients calling {@code /dashboard}, {@code /stats} and {@code /notifications}
+ * for a fixed duration, and prints throughput and latency percentiles per
+ * endpoint. Run with Java 21:</p>
+ *
+ * <pre>
+ * java loadtest/LoadTest.java [baseUrl] [concurrency] [durationSeconds] [warmupSeconds]
+ * </pre>
+ */
+public class LoadTest {
+
+    private static final List<String> ENDPOINTS = List.of("/dashboard", "/stats?period=week", "/notifications");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080/api/v1";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        Duration warmup = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 10);
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Session session = login(client, baseUrl);
+
+        System.out.printf("Warming up for %ds with %d clients...%n", warmup.toSeconds(), concurrency);
+        run(client, baseUrl, session, concurrency, warmup);
+
+        System.out.printf("Measuring for %ds with %d clients...%n", duration.toSeconds(), concurrency);
+        Map<String, Recorder> results = run(client, baseUrl, session, concurrency, duration);
+
+        System.out.printf("%-20s %10s %8s %9s %9s %9s %9s%n",
+                "endpoint", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        results.forEach((endpoint, recorder) -> recorder.print(endpoint, duration));
+    }
+
+    private static Map<String, Recorder> run(HttpClient client, String baseUrl, Session session,
+                                             int concurrency, Duration duration) throws InterruptedException {
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        ENDPOINTS.forEach(endpoint -> recorders.put(endpoint, new Recorder()));
+        long end = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int offset = i;
+                clients.submit(() -> {
+                    for (long n = offset; System.nanoTime() < end; n++) {
+                        String endpoint = ENDPOINTS.get((int) (n % ENDPOINTS.size()));
+                        call(client, baseUrl, session, endpoint, recorders.get(endpoint));
+                    }
+                });
+            }
+        }
+        return recorders;
+    }
+
+    private static void call(HttpClient client, String baseUrl, Session session, String endpoint, Recorder recorder) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint))
+                .header("Authorization", "Bearer " + session.token())
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            recorder.record(System.nanoTime() - start, response.statusCode() < 400);
+        } catch (Exception ex) {
+            recorder.record(System.nanoTime() - start, false);
+        }
+    }
+
+    private static Session login(HttpClient client, String baseUrl) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"user@example.com\",\"password\":\"password123\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed: " + response.statusCode() + " " + response.body());
+        }
+        return new Session(extract(response.body(), "\"token\"\\s*:\\s*\"([^\"]+)\""));
+    }
+
+    private static String extract(String json, String regex) {
+        Matcher matcher = Pattern.compile(regex).matcher(json);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected login response: " + json);
+        }
+        return matcher.group(1);
+    }
+
+    private record Session(String token) {
+    }
+
+    /**
+     * Collects latencies of one endpoint.
+     */
+    private static final class Recorder {
+
+        private final List<Long> latencies = new ArrayList<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void record(long nanos, boolean ok) {
+            latencies.add(nanos);
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized void print(String endpoint, Duration duration) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            System.out.printf("%-20s %10.1f %8d %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint,
+                    sorted.length / (double) duration.toSeconds(),
+                    errors.get(),
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.90),
+                    percentile(sorted, 0.99),
+                    percentile(sorted, 1.0));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Runs LoadTest against the packaged backend twice: once with the default
+# platform thread pool and once with the virtual-threads profile.
+# Usage: loadtest/compare.sh [concurrency] [durationSeconds] [warmupSeconds]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+CONCURRENCY=${1:-200}
+DURATION=${2:-30}
+WARMUP=${3:-10}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}/api/v1"
+
+mvn -B -q -DskipTests package
+JAR=$(ls target/wellness-backend-*.jar | grep -v original | head -n 1)
+
+run_mode() {
+    local mode=$1 profiles=$2
+    echo "=== ${mode} ==="
+    java -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profiles" \
+        --spring.jpa.show-sql=false --wellness.rate-limit.enabled=false --logging.level.root=WARN --logging.level.com.studyai.wellness=WARN \
+        --logging.level.org.hibernate.SQL=WARN --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN \
+        --logging.level.org.springframework.security=WARN > "target/loadtest-${mode}.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+    until curl -s -o /dev/null "${BASE_URL}/actuator/health"; do sleep 1; done
+    java loadtest/LoadTest.java "$BASE_URL" "$CONCURRENCY" "$DURATION" "$WARMUP"
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform-threads default
+run_mode virtual-threads virtual-threads
@@ -0,0 +1,210 @@
+package com.studyai.wellness.benchmark;
+
+import com.studyai.wellness.entity.Metric.MetricType;
+import com.studyai.wellness.entity.Notification;
+import com.studyai.wellness.entity.User;
+import com.studyai.wellness.entity.UserPreferences;
+import com.studyai.wellness.repository.*;
+import com.studyai.wellness.repository.projection.*;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+/**
+ * In-memory data shaped like the seeded sample user, served through
+ * stub-only repository mocks so benchmarks measure the service layer alone.
+ *
+ * <p>Query results are Spring Data projection proxies, as they are at runtime.</p>
+ */
+final class BenchmarkData {
+
+    static final Long USER_ID = 1L;
+
+    static final int HABIT_COUNT = 5;
+
+    private static final int HISTORY_DAYS = 90;
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    private BenchmarkData() {
+    }
+
+    static User user() {
+        return User.builder()
+                .id(USER_ID)
+                .email("user@example.com")
+                .name("Sarah")
+                .createdAt(LocalDateTime.now().minusYears(1))
+                .active(true)
+                .preferences(UserPreferences.builder()
+                        .notificationsEnabled(true)
+                        .darkMode(false)
+                        .language("en")
+                        .build())
+                .build();
+    }
+
+    static UserRepository userRepository() {
+        UserRepository repository = stub(UserRepository.class);
+        Mockito.when(repository.findById(USER_ID)).thenReturn(Optional.of(user()));
+        User user = user();
+        Map<String, Object> view = new HashMap<>();
+        view.put("id", user.getId());
+        view.put("email", user.getEmail());
+        view.put("name", user.getName());
+        view.put("avatar", user.getAvatar());
+        view.put("createdAt", user.getCreatedAt());
+        view.put("notificationsEnabled", user.getPreferences().getNotificationsEnabled());
+        view.put("darkMode", user.getPreferences().getDarkMode());
+        view.put("language", user.getPreferences().getLanguage());
+        Mockito.when(repository.findViewById(USER_ID))
+                .thenReturn(Optional.of(PROJECTIONS.createProjection(UserView.class, view)));
+        Mockito.when(repository.existsById(USER_ID)).thenReturn(true);
+        return repository;
+    }
+
+    static HabitRepository habitRepository() {
+        List<HabitView> habits = new ArrayList<>();
+        for (long id = 1; id <= HABIT_COUNT; id++) {
+            habits.add(PROJECTIONS.createProjection(HabitView.class,
+                    Map.of("id", id, "name", "Habit " + id, "icon", "icon_" + id)));
+        }
+
+        HabitRepository repository = stub(HabitRepository.class);
+        Mockito.when(repository.findViewsByUserIdAndActiveTrueOrderByDisplayOrderAsc(USER_ID)).thenReturn(habits);
+        Mockito.when(repository.countByUserIdAndActiveTrue(USER_ID)).thenReturn((long) HABIT_COUNT);
+        return repository;
+    }
+
+    /**
+     * Check-ins over the last 90 days; habit {@code n} is skipped every
+     * {@code n + 2} days, so streaks stay inside the first window.
+     */
+    static HabitCheckInRepository habitCheckInRepository(LocalDate today) {
+        List<HabitCheckInDay> days = new ArrayList<>();
+        List<DailyCompletionCount> counts = new ArrayList<>();
+        for (int offset = 0; offset < HISTORY_DAYS; offset++) {
+            LocalDate date = today.minusDays(offset);
+            long completed = 0;
+            for (long habit = 1; habit <= HABIT_COUNT; habit++) {
+                if (offset % (habit + 2) != habit + 1) {
+                    days.add(PROJECTIONS.createProjection(HabitCheckInDay.class,
+                            Map.of("habitId", habit, "date", date)));
+                    completed++;
+                }
+            }
+            counts.add(PROJECTIONS.createProjection(DailyCompletionCount.class,
+                    Map.of("date", date, "completed", completed)));
+        }
+
+        HabitCheckInRepository repository = stub(HabitCheckInRepository.class);
+        Mockito.when(repository.findCheckInDays(anyLong(), any(), any())).thenReturn(days);
+        Mockito.when(repository.countDailyCompletions(anyLong(), any(), any())).thenReturn(counts);
+        Mockito.when(repository.findCheckInDates(anyLong(), anyLong(), any(), any())).thenReturn(List.of());
+        return repository;
+    }
+
+    static MetricRepository metricRepository() {
+        LocalDateTime now = LocalDateTime.now();
+        List<MetricPoint> latest = new ArrayList<>();
+        long id = 1;
+        for (MetricType type : MetricType.values()) {
+            latest.add(new MetricPoint(id++, type, 1200.0, now));
+            latest.add(new MetricPoint(id++, type, 1000.0, now.minusDays(1)));
+        }
+
+        MetricRepository repository = stub(MetricRepository.class);
+        Mockito.when(repository.findLatestMetricsByUserId(anyLong(), anyInt())).thenReturn(latest);
+        return repository;
+    }
+
+    static MetricRollupRepository metricRollupRepository() {
+        List<MetricAggregate> aggregates = new ArrayList<>();
+        for (MetricType type : MetricType.values()) {
+            aggregates.add(PROJECTIONS.createProjection(MetricAggregate.class,
+                    Map.of("type", type, "total", 8400.0, "count", 7L)));
+        }
+
+        MetricRollupRepository repository = stub(MetricRollupRepository.class);
+        Mockito.when(repository.aggregateByType(anyLong(), any(), any(), any())).thenReturn(aggregates);
+        return repository;
+    }
+
+    static AchievementRepository achievementRepository() {
+        List<AchievementView> achievements = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            achievements.add(PROJECTIONS.createProjection(AchievementView.class, Map.of(
+                    "id", id,
+                    "title", "Achievement " + id,
+                    "description", "Unlocked after " + id + " weeks",
+                    "icon", "trophy",
+                    "unlockedAt", LocalDateTime.now().minusWeeks(id))));
+        }
+
+        AchievementRepository repository = stub(AchievementRepository.class);
+        Mockito.when(repository.findViewsByUserIdOrderByUnlockedAtDesc(USER_ID)).thenReturn(achievements);
+        return repository;
+    }
+
+    static GoalRepository goalRepository() {
+        List<GoalView> goals = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            goals.add(PROJECTIONS.createProjection(GoalView.class, Map.of(
+                    "id", id,
+                    "title", "Goal " + id,
+                    "current", 40.0 * id,
+                    "target", 100.0 * id,
+                    "unit", "km",
+                    "deadline", LocalDate.now().plusMonths(id))));
+        }
+
+        GoalRepository repository = stub(GoalRepository.class);
+        Mockito.when(repository.findViewsByUserIdAndActiveTrueOrderByDeadlineAsc(USER_ID)).thenReturn(goals);
+        return repository;
+    }
+
+    /**
+     * Notifications spread evenly over the last {@code count / 4} hours,
+     * newest first.
+     */
+    static NotificationRepository notificationRepository(int count) {
+        User user = user();
+        Notification.NotificationType[] types = Notification.NotificationType.values();
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            notifications.add(Notification.builder()
+                    .id((long) i + 1)
+                    .user(user)
+                    .title("Notification " + i)
+                    .message("Message body of notification " + i)
+                    .type(types[i % types.length])
+                    .read(i % 3 == 0)
+                    .createdAt(now.minusMinutes(15L * i))
+                    .build());
+        }
+
+        NotificationRepository repository = stub(NotificationRepository.class);
+        Mockito.when(repository.findFirstPage(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            Limit limit = invocation.getArgument(1);
+            return notifications.subList(0, Math.min(count, limit.max()));
+        });
+        return repository;
+    }
+
+    static <T> T stub(Class<T> type) {
+        return Mockito.mock(type, Mockito.withSettings().stubOnly());
+    }
+}
@@ -0,0 +1,53 @@
+package com.studyai.wellness.benchmark;
+
+import com.studyai.wellness.dto.DashboardDto;
+import com.studyai.wellness.repository.HabitCheckInRepository;
+import com.studyai.wellness.repository.HabitRepository;
+import com.studyai.wellness.repository.UserRepository;
+import com.studyai.wellness.service.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembly cost of {@link DashboardService#getDashboard} on the sequential
+ * path, without the per-user cache in front of it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardBenchmark {
+
+    private DashboardService dashboardService;
+
+    @Setup
+    public void setUp() {
+        UserRepository userRepository = BenchmarkData.userRepository();
+        HabitRepository habitRepository = BenchmarkData.habitRepository();
+        HabitCheckInRepository habitCheckInRepository = BenchmarkData.habitCheckInRepository(LocalDate.now());
+        StatsSnapshotStore statsSnapshotStore = new StatsSnapshotStore("maximumSize=100",
+                Duration.ofMinutes(15), new SimpleMeterRegistry());
+
+        dashboardService = new DashboardService(
+                userRepository,
+                BenchmarkData.metricRepository(),
+                new MetricDtoMapper(),
+                new HabitService(habitRepository, habitCheckInRepository, userRepository, statsSnapshotStore,
+                        BenchmarkData.stub(PlatformTransactionManager.class)),
+                new WeeklyProgressService(habitCheckInRepository, habitRepository),
+                new StaticListableBeanFactory().getBeanProvider(DashboardFanOut.class));
+    }
+
+    @Benchmark
+    public DashboardDto getDashboard() {
+        return dashboardService.getDashboard(BenchmarkData.USER_ID);
+    }
+}
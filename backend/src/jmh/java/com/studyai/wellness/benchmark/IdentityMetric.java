@@ -0,0 +1,46 @@
+package com.studyai.wellness.benchmark;
+
+import com.studyai.wellness.entity.Metric.MetricType;
+import com.studyai.wellness.entity.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link com.studyai.wellness.entity.Metric} as mapped before ids came from
+ * pooled sequences, with an {@code IDENTITY} id, as the baseline of
+ * {@link MetricInsertBenchmark}. Only on the benchmark classpath, where the
+ * schema generation creates its table next to the application's.
+ */
+@Entity
+@Table(name = "benchmark_identity_metrics",
+        uniqueConstraints = @UniqueConstraint(name = "uk_benchmark_identity_metrics_user_type_recorded_at",
+                columnNames = {"user_id", "type", "recorded_at"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdentityMetric {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private MetricType type;
+
+    @Column(nullable = false)
+    private double value;
+
+    @Column(nullable = false)
+    private LocalDateTime recordedAt;
+}
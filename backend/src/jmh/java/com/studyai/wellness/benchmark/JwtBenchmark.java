@@ -0,0 +1,66 @@
+package com.studyai.wellness.benchmark;
+
+import com.studyai.wellness.security.JwtPrincipal;
+import com.studyai.wellness.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token checks of {@code JwtAuthenticationFilter}.
+ *
+ * <p>{@code legacyFilterPath} replays the original filter, which rebuilt the
+ * key and parser and verified the signature three times per request;
+ * {@code parseOnce} verifies once, and {@code authenticate} is the cached path
+ * the filter uses now.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "5cH8J2mP9kL3nQ6rT7vW0xY4zA1bC2dE8fG3hI6jN9mP4qR7sT0uV3wX5yZ8aB1cD";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 86_400_000L, 604_800_000L,
+                "maximumSize=1000", new SimpleMeterRegistry());
+        token = jwtTokenProvider.generateToken("user@example.com", BenchmarkData.USER_ID.toString());
+    }
+
+    @Benchmark
+    public void legacyFilterPath(Blackhole blackhole) {
+        blackhole.consume(legacyClaims(token));
+        blackhole.consume(legacyClaims(token).getSubject());
+        blackhole.consume(legacyClaims(token).get("userId", String.class));
+    }
+
+    @Benchmark
+    public JwtPrincipal parseOnce() {
+        return jwtTokenProvider.parse(token);
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> authenticate() {
+        return jwtTokenProvider.authenticate(token);
+    }
+
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+}
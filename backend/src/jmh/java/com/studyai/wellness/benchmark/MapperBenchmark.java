@@ -0,0 +1,36 @@
+package com.studyai.wellness.benchmark;
+
+import com.studyai.wellness.dto.MetricDto;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import com.studyai.wellness.service.MetricDtoMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO mapping of the latest metric samples shared by the dashboard and stats overview.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private MetricDtoMapper metricDtoMapper;
+    private List<MetricPoint> latestMetrics;
+
+    @Setup
+    public void setUp() {
+        metricDtoMapper = new MetricDtoMapper();
+        latestMetrics = BenchmarkData.metricRepository()
+                .findLatestMetricsByUserId(BenchmarkData.USER_ID, MetricDtoMapper.SAMPLES_PER_TYPE);
+    }
+
+    @Benchmark
+    public List<MetricDto> toLatestDtos() {
+        return metricDtoMapper.toLatestDtos(latestMetrics);
+    }
+}
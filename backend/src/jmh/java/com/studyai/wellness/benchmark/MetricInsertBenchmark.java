@@ -0,0 +1,140 @@
+package com.studyai.wellness.benchmark;
+
+import com.studyai.wellness.WellnessBackendApplication;
+import com.studyai.wellness.entity.Metric;
+import com.studyai.wellness.entity.Metric.MetricType;
+import com.studyai.wellness.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting {@value #SAMPLES} metric samples through Hibernate into the
+ * embedded H2 database in one transaction.
+ *
+ * <p>{@code ids} selects {@link Metric} with pooled sequence ids or
+ * {@link IdentityMetric}, the same table with {@code IDENTITY} ids as before,
+ * for which Hibernate inserts each row on its own to read back its key.
+ * {@code batchSize} sets {@code hibernate.jdbc.batch_size}. The setup checks
+ * that the setting reached the session factory and that an insert of
+ * {@value #SAMPLES} samples prepares no more statements than the id strategy
+ * and batch size allow, so a run cannot silently measure unbatched inserts.
+ * H2 executes a JDBC batch row by row in process, so the time saved here is
+ * Hibernate's per-statement overhead only; a networked database also saves a
+ * round trip per row.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 15, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class MetricInsertBenchmark {
+
+    static final int SAMPLES = 1_000;
+
+    /**
+     * Samples are recorded in 1990, apart from the seeded ones.
+     */
+    private static final LocalDateTime FIRST_SAMPLE = LocalDateTime.of(1990, 1, 1, 0, 0);
+
+    @Param({"identity", "sequence"})
+    public String ids;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private int nextSample;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(WellnessBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                // Arguments, unlike default properties, take precedence over application.yml
+                .run("--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.studyai.wellness=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        SessionFactoryOptions options = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions();
+        if (options.getJdbcBatchSize() != batchSize || !options.isOrderInsertsEnabled()) {
+            throw new IllegalStateException("Expected batch size " + batchSize + " with ordered inserts, got "
+                    + options.getJdbcBatchSize() + (options.isOrderInsertsEnabled() ? " with" : " without")
+                    + " ordered inserts");
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        insertSamples();
+        long statements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        // IDENTITY: one statement per row. Sequences: one per batch and one sequence call per
+        // allocation of 50 ids. Both: a few more for the first access to the tables.
+        long expected = ("identity".equals(ids)
+                ? SAMPLES
+                : (SAMPLES + batchSize - 1) / batchSize + (SAMPLES + 49) / 50) + 10;
+        if (statements > expected) {
+            throw new IllegalStateException("Inserting " + SAMPLES + " samples prepared " + statements
+                    + " statements, expected at most " + expected);
+        }
+        deleteSamples();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteSamples() {
+        String entity = "identity".equals(ids) ? "IdentityMetric" : "Metric";
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("DELETE FROM " + entity + " m WHERE m.recordedAt < :end")
+                .setParameter("end", FIRST_SAMPLE.plusYears(1))
+                .executeUpdate());
+        nextSample = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int insertSamples() {
+        MetricType[] types = MetricType.values();
+        return transactionTemplate.execute(status -> {
+            User user = entityManager.getReference(User.class, BenchmarkData.USER_ID);
+            for (int i = 0; i < SAMPLES; i++) {
+                int sample = nextSample++;
+                MetricType type = types[sample % types.length];
+                LocalDateTime recordedAt = FIRST_SAMPLE.plusSeconds(sample);
+                entityManager.persist("identity".equals(ids)
+                        ? IdentityMetric.builder().user(user).type(type).value(sample).recordedAt(recordedAt).build()
+                        : Metric.builder().user(user).type(type).value(sample).recordedAt(recordedAt).build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return SAMPLES;
+        });
+    }
+}
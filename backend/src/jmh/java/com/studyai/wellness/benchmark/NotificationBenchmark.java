@@ -0,0 +1,44 @@
+package com.studyai.wellness.benchmark;
+
+import com.studyai.wellness.repository.NotificationOutboxRepository;
+import com.studyai.wellness.repository.UserRepository;
+import com.studyai.wellness.service.NotificationPage;
+import com.studyai.wellness.service.NotificationService;
+import com.studyai.wellness.service.NotificationStreamHub;
+import com.studyai.wellness.service.UnreadNotificationCounter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping and Today/Yesterday/Earlier grouping of the first page of a
+ * user's notifications in {@link NotificationService#getNotifications}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationBenchmark {
+
+    @Param({"20", "50", "100"})
+    public int pageSize;
+
+    private NotificationService notificationService;
+
+    @Setup
+    public void setUp() {
+        notificationService = new NotificationService(
+                BenchmarkData.notificationRepository(20000),
+                BenchmarkData.stub(NotificationOutboxRepository.class),
+                BenchmarkData.stub(UserRepository.class),
+                BenchmarkData.stub(UnreadNotificationCounter.class),
+                BenchmarkData.stub(NotificationStreamHub.class));
+    }
+
+    @Benchmark
+    public NotificationPage firstPage() {
+        return notificationService.getNotifications(BenchmarkData.USER_ID, null, pageSize);
+    }
+}
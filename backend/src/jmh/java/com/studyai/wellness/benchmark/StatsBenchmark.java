@@ -0,0 +1,60 @@
+package com.studyai.wellness.benchmark;
+
+import com.studyai.wellness.dto.StatsDto;
+import com.studyai.wellness.repository.MetricRepository;
+import com.studyai.wellness.service.MetricDtoMapper;
+import com.studyai.wellness.service.MetricRollupService;
+import com.studyai.wellness.service.StatsService;
+import com.studyai.wellness.service.StatsSnapshotStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StatsService#getStats} served from a cached snapshot ({@code hit})
+ * and with the snapshot rebuilt on every call ({@code rebuild}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatsBenchmark {
+
+    @Param({"week", "month", "year"})
+    public String period;
+
+    @Param({"hit", "rebuild"})
+    public String snapshot;
+
+    private StatsService statsService;
+
+    @Setup
+    public void setUp() {
+        // A zero maximum age makes every lookup miss
+        Duration maxAge = "hit".equals(snapshot) ? Duration.ofMinutes(15) : Duration.ZERO;
+
+        MetricRepository metricRepository = BenchmarkData.metricRepository();
+        StatsSnapshotStore statsSnapshotStore =
+                new StatsSnapshotStore("maximumSize=100", maxAge, new SimpleMeterRegistry());
+        statsService = new StatsService(
+                metricRepository,
+                new MetricRollupService(BenchmarkData.metricRollupRepository(), metricRepository,
+                        BenchmarkData.userRepository(), statsSnapshotStore, 500),
+                new MetricDtoMapper(),
+                BenchmarkData.goalRepository(),
+                BenchmarkData.achievementRepository(),
+                BenchmarkData.habitRepository(),
+                BenchmarkData.habitCheckInRepository(LocalDate.now()),
+                statsSnapshotStore);
+    }
+
+    @Benchmark
+    public StatsDto getStats() {
+        return statsService.getStats(BenchmarkData.USER_ID, period);
+    }
+}
@@ -0,0 +1,43 @@
+package com.studyai.wellness.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache configuration for the application.
+ *
+ * <p>This class registers the Caffeine caches used by the services. Each
+ * cache is bounded by its Caffeine spec and records statistics, which the
+ * actuator exposes as {@code cache.*} metrics.</p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Per-user dashboard cache, keyed by user ID.
+     */
+    public static final String DASHBOARD_CACHE = "dashboard";
+
+    /**
+     * Configure the cache manager.
+     *
+     * <p>Puts and evictions are deferred until the surrounding transaction
+     * commits, so a concurrent read cannot re-cache data that is about to change.</p>
+     *
+     * @param dashboardSpec Caffeine spec of the dashboard cache
+     * @return CacheManager
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${wellness.cache.dashboard.spec}") String dashboardSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(DASHBOARD_CACHE, Caffeine.from(dashboardSpec).build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
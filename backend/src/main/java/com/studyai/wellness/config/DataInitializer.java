@@ -7,9 +7,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * Data initializer for populating the database with sample data.
@@ -23,6 +25,7 @@ public class DataInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
     private final HabitRepository habitRepository;
+    private final HabitCheckInRepository habitCheckInRepository;
     private final MetricRepository metricRepository;
     private final GoalRepository goalRepository;
     private final NotificationRepository notificationRepository;
@@ -30,6 +33,7 @@ public class DataInitializer implements CommandLineRunner {
     private final PasswordEncoder passwordEncoder;
 
     @Override
+    @Transactional
     public void run(String... args) {
         if (userRepository.count() == 0) {
             log.info("Initializing sample data...");
@@ -81,8 +85,6 @@ public class DataInitializer implements CommandLineRunner {
                         .user(user)
                         .name("Morning Meditation")
                         .icon("🧘")
-                        .completed(true)
-                        .streak(7)
                         .displayOrder(0)
                         .active(true)
                         .build(),
@@ -90,8 +92,6 @@ public class DataInitializer implements CommandLineRunner {
                         .user(user)
                         .name("Drink Water")
                         .icon("💧")
-                        .completed(true)
-                        .streak(14)
                         .displayOrder(1)
                         .active(true)
                         .build(),
@@ -99,8 +99,6 @@ public class DataInitializer implements CommandLineRunner {
                         .user(user)
                         .name("Exercise")
                         .icon("🏃")
-                        .completed(false)
-                        .streak(3)
                         .displayOrder(2)
                         .active(true)
                         .build(),
@@ -108,8 +106,6 @@ public class DataInitializer implements CommandLineRunner {
                         .user(user)
                         .name("Read Book")
                         .icon("📚")
-                        .completed(true)
-                        .streak(21)
                         .displayOrder(3)
                         .active(true)
                         .build(),
@@ -117,65 +113,61 @@ public class DataInitializer implements CommandLineRunner {
                         .user(user)
                         .name("No Sugar")
                         .icon("🍬")
-                        .completed(false)
-                        .streak(5)
                         .displayOrder(4)
                         .active(true)
                         .build()
         };
 
-        for (Habit habit : habits) {
-            habitRepository.save(habit);
+        // Current streak of each habit and whether it is already done today
+        int[] streaks = {7, 14, 3, 21, 5};
+        boolean[] completedToday = {true, true, false, true, false};
+
+        for (int i = 0; i < habits.length; i++) {
+            habitRepository.save(habits[i]);
+            createCheckIns(user, habits[i], streaks[i], completedToday[i]);
         }
         log.info("Created {} habits for user", habits.length);
     }
 
+    private void createCheckIns(User user, Habit habit, int streak, boolean completedToday) {
+        // The current streak ends today if the habit is done, otherwise yesterday
+        LocalDate lastDay = completedToday ? LocalDate.now() : LocalDate.now().minusDays(1);
+
+        for (int i = 0; i < streak; i++) {
+            habitCheckInRepository.save(HabitCheckIn.builder()
+                    .user(user)
+                    .habit(habit)
+                    .checkInDate(lastDay.minusDays(i))
+                    .build());
+        }
+    }
+
     private void createMetrics(User user) {
-        String today = LocalDate.now().toString();
+        // Daily samples for the past week, oldest first; the last entry is today
+        Map<Metric.MetricType, double[]> history = Map.of(
+                Metric.MetricType.CALORIES_BURNED, new double[]{1890, 2010, 1750, 1920, 2105, 1083, 1245},
+                Metric.MetricType.ACTIVE_MINUTES, new double[]{52, 61, 38, 47, 70, 42, 45},
+                Metric.MetricType.SLEEP_HOURS, new double[]{6.8, 7.2, 7.9, 6.5, 7.4, 7.1, 7.5},
+                Metric.MetricType.WATER_INTAKE, new double[]{2.1, 1.8, 2.0, 1.6, 2.2, 1.7, 1.5},
+                Metric.MetricType.STEPS, new double[]{8120, 10430, 6210, 7980, 12050, 5620, 6340}
+        );
 
-        Metric[] metrics = {
-                Metric.builder()
-                        .user(user)
-                        .title("Calories Burned")
-                        .value("1,245")
-                        .subtitle("of 2,000 goal")
-                        .trend("+15%")
-                        .color("#3D8A5A")
-                        .recordDate(today)
-                        .build(),
-                Metric.builder()
-                        .user(user)
-                        .title("Active Minutes")
-                        .value("45")
-                        .subtitle("of 60 goal")
-                        .trend("+8%")
-                        .color("#5CAD7A")
-                        .recordDate(today)
-                        .build(),
-                Metric.builder()
-                        .user(user)
-                        .title("Sleep Hours")
-                        .value("7.5")
-                        .subtitle("hours last night")
-                        .trend("+5%")
-                        .color("#3D8A5A")
-                        .recordDate(today)
-                        .build(),
-                Metric.builder()
-                        .user(user)
-                        .title("Water Intake")
-                        .value("1.5L")
-                        .subtitle("of 2L goal")
-                        .trend("-10%")
-                        .color("#F5A623")
-                        .recordDate(today)
-                        .build()
-        };
+        LocalDateTime today = LocalDate.now().atTime(8, 0);
+        int count = 0;
 
-        for (Metric metric : metrics) {
-            metricRepository.save(metric);
+        for (Map.Entry<Metric.MetricType, double[]> entry : history.entrySet()) {
+            double[] values = entry.getValue();
+            for (int i = 0; i < values.length; i++) {
+                metricRepository.save(Metric.builder()
+                        .user(user)
+                        .type(entry.getKey())
+                        .value(values[i])
+                        .recordedAt(today.minusDays(values.length - 1 - i))
+                        .build());
+                count++;
+            }
         }
-        log.info("Created {} metrics for user", metrics.length);
+        log.info("Created {} metrics for user", count);
     }
 
     private void createGoals(User user) {
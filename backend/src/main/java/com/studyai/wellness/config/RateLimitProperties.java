@@ -0,0 +1,79 @@
+package com.studyai.wellness.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate limit configuration bound from {@code wellness.rate-limit}.
+ *
+ * <p>Each request is limited by the first group whose paths match it.</p>
+ */
+@Data
+@ConfigurationProperties(prefix = "wellness.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether requests are rate limited at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of buckets kept in memory; the least recently used are dropped.
+     */
+    private long maxBuckets = 100_000;
+
+    /**
+     * Route groups, matched in order.
+     */
+    private List<Group> groups = new ArrayList<>();
+
+    /**
+     * Limit applied to one group of routes.
+     */
+    @Data
+    public static class Group {
+
+        /**
+         * Name of the group, used in bucket keys and metrics.
+         */
+        private String name;
+
+        /**
+         * Ant-style path patterns, relative to the context path.
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * What a bucket is kept per.
+         */
+        private KeyType key = KeyType.USER;
+
+        /**
+         * Maximum burst of requests.
+         */
+        private int capacity;
+
+        /**
+         * Sustained number of requests allowed per minute.
+         */
+        private double refillPerMinute;
+    }
+
+    /**
+     * Client identity a bucket is kept for.
+     */
+    public enum KeyType {
+        /**
+         * The authenticated user, or the client IP for anonymous requests.
+         */
+        USER,
+
+        /**
+         * The client IP.
+         */
+        IP
+    }
+}
@@ -0,0 +1,21 @@
+package com.studyai.wellness.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration for the application.
+ *
+ * <p>Background work such as outbox dispatch, rollup compaction and counter
+ * reconciliation runs as {@code @Scheduled} methods on Spring Boot's task
+ * scheduler, which uses virtual threads when
+ * {@code spring.threads.virtual.enabled} is set (see the
+ * {@code virtual-threads} profile). Setting {@code wellness.scheduling.enabled}
+ * to false turns the jobs off, e.g. for tests that count statements.</p>
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "wellness.scheduling.enabled", matchIfMissing = true)
+public class SchedulingConfig {
+}
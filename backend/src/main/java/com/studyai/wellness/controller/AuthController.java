@@ -3,11 +3,13 @@ package com.studyai.wellness.controller;
 import com.studyai.wellness.dto.ForgotPasswordRequestDto;
 import com.studyai.wellness.dto.LoginRequestDto;
 import com.studyai.wellness.dto.LoginResponseDto;
+import com.studyai.wellness.dto.RefreshTokenRequestDto;
 import com.studyai.wellness.service.AuthenticationService;
 import com.studyai.wellness.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -39,6 +41,18 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Exchange a refresh token for new tokens.
+     *
+     * @param request the refresh request containing the refresh token
+     * @return LoginResponseDto with user info and the new JWT tokens
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponseDto> refresh(@Valid @RequestBody RefreshTokenRequestDto request) {
+        LoginResponseDto response = authenticationService.refresh(request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Request a password reset email.
      *
@@ -53,18 +67,19 @@ public class AuthController {
     }
 
     /**
-     * Logout the current user.
-     *
-     * <p>Note: In a stateless JWT setup, logout is primarily handled
-     * by the client removing the token. This endpoint logs the event.</p>
+     * Logout the current user by revoking the presented access token and,
+     * if sent, the refresh token.
      *
-     * @param userId the ID of the user from the JWT token
+     * @param authorization the Authorization header carrying the access token
+     * @param request optional body containing the refresh token
      * @return 204 No Content
      */
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@RequestParam Long userId) {
-        log.info("Logout request received for user: {}", userId);
-        authenticationService.logout(userId);
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenRequestDto request) {
+        log.info("Logout request received");
+        authenticationService.logout(authorization, request != null ? request.getRefreshToken() : null);
         return ResponseEntity.noContent().build();
     }
 }
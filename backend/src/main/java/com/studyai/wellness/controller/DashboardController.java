@@ -1,6 +1,7 @@
 package com.studyai.wellness.controller;
 
 import com.studyai.wellness.dto.DashboardDto;
+import com.studyai.wellness.security.CurrentUserId;
 import com.studyai.wellness.service.DashboardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,11 +25,11 @@ public class DashboardController {
     /**
      * Get dashboard data for the current user.
      *
-     * @param userId the ID of the user from JWT token
+     * @param userId the ID of the authenticated user
      * @return DashboardDto containing all dashboard information
      */
     @GetMapping
-    public ResponseEntity<DashboardDto> getDashboard(@RequestParam Long userId) {
+    public ResponseEntity<DashboardDto> getDashboard(@CurrentUserId Long userId) {
         log.info("Fetching dashboard for user: {}", userId);
         DashboardDto dashboard = dashboardService.getDashboard(userId);
         return ResponseEntity.ok(dashboard);
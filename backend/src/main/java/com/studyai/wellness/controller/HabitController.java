@@ -0,0 +1,37 @@
+package com.studyai.wellness.controller;
+
+import com.studyai.wellness.dto.HabitDto;
+import com.studyai.wellness.security.CurrentUserId;
+import com.studyai.wellness.service.HabitService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for habit operations.
+ *
+ * <p>This controller handles endpoints for recording habit completions.</p>
+ */
+@RestController
+@RequestMapping("/habits")
+@RequiredArgsConstructor
+@Slf4j
+public class HabitController {
+
+    private final HabitService habitService;
+
+    /**
+     * Mark a habit as completed for today.
+     *
+     * @param userId the ID of the authenticated user
+     * @param id the ID of the habit
+     * @return updated HabitDto with current streak
+     */
+    @PostMapping("/{id}/check-in")
+    public ResponseEntity<HabitDto> checkIn(@CurrentUserId Long userId, @PathVariable Long id) {
+        log.info("Checking in habit {} for user: {}", id, userId);
+        HabitDto habit = habitService.checkIn(userId, id);
+        return ResponseEntity.ok(habit);
+    }
+}
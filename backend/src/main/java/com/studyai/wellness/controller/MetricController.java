@@ -0,0 +1,71 @@
+package com.studyai.wellness.controller;
+
+import com.studyai.wellness.dto.MetricBatchResultDto;
+import com.studyai.wellness.export.MetricExportFormat;
+import com.studyai.wellness.security.CurrentUserId;
+import com.studyai.wellness.service.MetricService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * REST Controller for metric operations.
+ *
+ * <p>This controller handles endpoints for uploading and exporting health
+ * and fitness metric samples.</p>
+ */
+@RestController
+@RequestMapping("/metrics")
+@RequiredArgsConstructor
+@Slf4j
+public class MetricController {
+
+    private final MetricService metricService;
+
+    /**
+     * Upload metric samples for the current user.
+     *
+     * <p>Accepts a JSON array of samples or newline-delimited JSON, read as
+     * it arrives.</p>
+     *
+     * @param userId the ID of the authenticated user
+     * @param body the request body
+     * @return MetricBatchResultDto with accepted and rejected counts
+     * @throws IOException if the body cannot be read or is not valid JSON
+     */
+    @PostMapping(path = "/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<MetricBatchResultDto> uploadBatch(
+            @CurrentUserId Long userId,
+            InputStream body) throws IOException {
+        log.info("Uploading metrics for user: {}", userId);
+        return ResponseEntity.ok(metricService.ingest(userId, body));
+    }
+
+    /**
+     * Download the full metric history of the current user.
+     *
+     * <p>The response is streamed in the binary {@link MetricExportFormat},
+     * which {@code MetricExportReader} decodes.</p>
+     *
+     * @param userId the ID of the authenticated user
+     * @return the export, written as it is read from the database
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMetrics(@CurrentUserId Long userId) {
+        log.info("Exporting metrics for user: {}", userId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(MetricExportFormat.MEDIA_TYPE))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("metrics.wmx").build().toString())
+                .body(out -> metricService.export(userId, out));
+    }
+}
@@ -1,11 +1,16 @@
 package com.studyai.wellness.controller;
 
 import com.studyai.wellness.dto.NotificationGroupDto;
+import com.studyai.wellness.dto.UnreadCountDto;
+import com.studyai.wellness.security.CurrentUserId;
+import com.studyai.wellness.service.NotificationPage;
 import com.studyai.wellness.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -21,42 +26,93 @@ import java.util.List;
 @Slf4j
 public class NotificationController {
 
+    /**
+     * Response header carrying the cursor of the next page.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final NotificationService notificationService;
 
     /**
-     * Get all notifications for the current user, grouped by date.
+     * Get a page of notifications for the current user, grouped by date.
+     *
+     * <p>The cursor of the next page is returned in the {@value #NEXT_CURSOR_HEADER}
+     * header, which is absent on the last page.</p>
      *
-     * @param userId the ID of the user from JWT token
+     * @param userId the ID of the authenticated user
+     * @param cursor cursor of the page to fetch, or absent for the first page
+     * @param limit maximum number of notifications on the page
      * @return list of NotificationGroupDto
      */
     @GetMapping
-    public ResponseEntity<List<NotificationGroupDto>> getNotifications(@RequestParam Long userId) {
+    public ResponseEntity<List<NotificationGroupDto>> getNotifications(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + NotificationService.DEFAULT_PAGE_SIZE) int limit) {
         log.info("Fetching notifications for user: {}", userId);
-        List<NotificationGroupDto> notifications = notificationService.getNotifications(userId);
-        return ResponseEntity.ok(notifications);
+        NotificationPage page = notificationService.getNotifications(userId, cursor, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getGroups());
+    }
+
+    /**
+     * Stream new notifications of the current user as Server-Sent Events.
+     *
+     * <p>Each {@code notification} event carries a NotificationDto and the
+     * notification ID as event ID. Reconnecting clients send the last ID
+     * they received in {@code Last-Event-ID} and get what they missed; a
+     * {@code reset} event tells them to reload the list instead.</p>
+     *
+     * @param userId the ID of the authenticated user
+     * @param lastEventId ID of the last notification received, if resuming
+     * @return the event stream
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(
+            @CurrentUserId Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return notificationService.streamNotifications(userId, lastEventId);
+    }
+
+    /**
+     * Get the number of unread notifications of the current user.
+     *
+     * @param userId the ID of the authenticated user
+     * @return UnreadCountDto with the count
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<UnreadCountDto> getUnreadCount(@CurrentUserId Long userId) {
+        return ResponseEntity.ok(UnreadCountDto.builder()
+                .count(notificationService.getUnreadCount(userId))
+                .build());
     }
 
     /**
-     * Mark a specific notification as read.
+     * Mark a specific notification of the current user as read.
      *
+     * @param userId the ID of the authenticated user
      * @param id the ID of the notification
      * @return 204 No Content on success
      */
     @PutMapping("/{id}/read")
-    public ResponseEntity<Void> markAsRead(@PathVariable Long id) {
-        log.info("Marking notification as read: {}", id);
-        notificationService.markAsRead(id);
+    public ResponseEntity<Void> markAsRead(@CurrentUserId Long userId, @PathVariable Long id) {
+        log.info("Marking notification {} as read for user: {}", id, userId);
+        notificationService.markAsRead(userId, id);
         return ResponseEntity.noContent().build();
     }
 
     /**
      * Mark all notifications as read for the current user.
      *
-     * @param userId the ID of the user from JWT token
+     * @param userId the ID of the authenticated user
      * @return 204 No Content on success
      */
     @PutMapping("/read-all")
-    public ResponseEntity<Void> markAllAsRead(@RequestParam Long userId) {
+    public ResponseEntity<Void> markAllAsRead(@CurrentUserId Long userId) {
         log.info("Marking all notifications as read for user: {}", userId);
         notificationService.markAllAsRead(userId);
         return ResponseEntity.noContent().build();
@@ -1,6 +1,7 @@
 package com.studyai.wellness.controller;
 
 import com.studyai.wellness.dto.StatsDto;
+import com.studyai.wellness.security.CurrentUserId;
 import com.studyai.wellness.service.StatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,13 +25,13 @@ public class StatsController {
     /**
      * Get statistics data for the current user.
      *
-     * @param userId the ID of the user from JWT token
+     * @param userId the ID of the authenticated user
      * @param period the time period for statistics (e.g., "week", "month")
      * @return StatsDto containing all statistics information
      */
     @GetMapping
     public ResponseEntity<StatsDto> getStats(
-            @RequestParam Long userId,
+            @CurrentUserId Long userId,
             @RequestParam(defaultValue = "week") String period) {
         log.info("Fetching stats for user: {}, period: {}", userId, period);
         StatsDto stats = statsService.getStats(userId, period);
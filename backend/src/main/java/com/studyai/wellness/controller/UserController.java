@@ -2,6 +2,7 @@ package com.studyai.wellness.controller;
 
 import com.studyai.wellness.dto.UserDto;
 import com.studyai.wellness.dto.UserPreferencesDto;
+import com.studyai.wellness.security.CurrentUserId;
 import com.studyai.wellness.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,11 +26,11 @@ public class UserController {
     /**
      * Get the current user's profile.
      *
-     * @param userId the ID of the user from JWT token
+     * @param userId the ID of the authenticated user
      * @return UserDto containing user profile information
      */
     @GetMapping("/profile")
-    public ResponseEntity<UserDto> getUserProfile(@RequestParam Long userId) {
+    public ResponseEntity<UserDto> getUserProfile(@CurrentUserId Long userId) {
         log.info("Fetching user profile for user: {}", userId);
         UserDto user = userService.getUserProfile(userId);
         return ResponseEntity.ok(user);
@@ -38,13 +39,13 @@ public class UserController {
     /**
      * Update the current user's preferences.
      *
-     * @param userId the ID of the user from JWT token
+     * @param userId the ID of the authenticated user
      * @param preferencesDto the new preferences
      * @return updated UserDto
      */
     @PutMapping("/preferences")
     public ResponseEntity<UserDto> updatePreferences(
-            @RequestParam Long userId,
+            @CurrentUserId Long userId,
             @Valid @RequestBody UserPreferencesDto preferencesDto) {
         log.info("Updating preferences for user: {}", userId);
         UserDto user = userService.updatePreferences(userId, preferencesDto);
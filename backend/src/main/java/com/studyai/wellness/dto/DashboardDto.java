@@ -1,5 +1,6 @@
 package com.studyai.wellness.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -38,4 +39,11 @@ public class DashboardDto {
      * Weekly progress data.
      */
     private WeeklyProgressDto weeklyProgress;
+
+    /**
+     * Sections that could not be loaded in time and are missing from this response.
+     */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @Builder.Default
+    private List<String> staleSections = List.of();
 }
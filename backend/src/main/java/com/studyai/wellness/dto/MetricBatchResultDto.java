@@ -0,0 +1,28 @@
+package com.studyai.wellness.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the outcome of a metric batch upload.
+ *
+ * <p>This DTO reports how many samples of an upload were stored.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricBatchResultDto {
+
+    /**
+     * Number of samples stored, including ones that replaced a stored sample.
+     */
+    private int accepted;
+
+    /**
+     * Number of samples skipped because a field was missing or invalid.
+     */
+    private int rejected;
+}
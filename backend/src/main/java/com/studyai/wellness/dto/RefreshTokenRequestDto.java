@@ -0,0 +1,25 @@
+package com.studyai.wellness.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for Refresh Token Request.
+ *
+ * <p>This DTO carries the refresh token to exchange or revoke.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequestDto {
+
+    /**
+     * The refresh token issued at login or by the previous refresh.
+     */
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
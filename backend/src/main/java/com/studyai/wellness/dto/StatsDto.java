@@ -1,10 +1,12 @@
 package com.studyai.wellness.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -19,13 +21,18 @@ import java.util.List;
 @AllArgsConstructor
 public class StatsDto {
 
+    /**
+     * Period the statistics cover (e.g., "week", "month").
+     */
+    private String period;
+
     /**
      * List of overview metrics.
      */
     private List<MetricDto> overview;
 
     /**
-     * List of weekly statistics.
+     * List of statistics for the period.
      */
     private List<WeeklyStatDto> weeklyStats;
 
@@ -38,4 +45,10 @@ public class StatsDto {
      * List of user goals.
      */
     private List<GoalDto> goals;
+
+    /**
+     * Timestamp the statistics were last computed or updated, in UTC.
+     */
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
+    private Instant asOf;
 }
@@ -0,0 +1,23 @@
+package com.studyai.wellness.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the unread notification count.
+ *
+ * <p>This DTO carries the badge count shown by clients.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadCountDto {
+
+    /**
+     * Number of unread notifications.
+     */
+    private Long count;
+}
@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
 public class Achievement {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "achievements_seq")
+    @SequenceGenerator(name = "achievements_seq", sequenceName = "achievements_seq", allocationSize = 50)
     private Long id;
 
     /**
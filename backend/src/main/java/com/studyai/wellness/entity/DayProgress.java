@@ -22,7 +22,8 @@ import java.time.LocalDate;
 public class DayProgress {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "day_progress_seq")
+    @SequenceGenerator(name = "day_progress_seq", sequenceName = "day_progress_seq", allocationSize = 50)
     private Long id;
 
     /**
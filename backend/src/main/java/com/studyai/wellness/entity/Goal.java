@@ -23,7 +23,8 @@ import java.time.LocalDate;
 public class Goal {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "goals_seq")
+    @SequenceGenerator(name = "goals_seq", sequenceName = "goals_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -10,7 +10,7 @@ import lombok.NoArgsConstructor;
  * Entity class representing a daily habit.
  *
  * <p>This entity tracks user's daily habits such as meditation,
- * exercise, reading, etc.</p>
+ * exercise, reading, etc. Completions are recorded in {@link HabitCheckIn}.</p>
  */
 @Entity
 @Table(name = "habits")
@@ -21,7 +21,8 @@ import lombok.NoArgsConstructor;
 public class Habit {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "habits_seq")
+    @SequenceGenerator(name = "habits_seq", sequenceName = "habits_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -43,20 +44,6 @@ public class Habit {
     @Column(length = 50)
     private String icon;
 
-    /**
-     * Flag indicating if the habit is completed today.
-     */
-    @Column(nullable = false)
-    @Builder.Default
-    private Boolean completed = false;
-
-    /**
-     * Current streak count (consecutive days completed).
-     */
-    @Column(nullable = false)
-    @Builder.Default
-    private Integer streak = 0;
-
     /**
      * Order in which this habit should be displayed.
      */
@@ -0,0 +1,68 @@
+package com.studyai.wellness.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a single habit completion.
+ *
+ * <p>Each row records that a user completed a habit on a given day,
+ * giving the per-day completion history used for weekly progress and
+ * streaks. Rows are append-only and never updated.</p>
+ */
+@Entity
+@Immutable
+@Table(name = "habit_check_ins",
+        uniqueConstraints = @UniqueConstraint(name = "uk_habit_check_ins_user_habit_date",
+                columnNames = {"user_id", "habit_id", "check_in_date"}),
+        indexes = @Index(name = "idx_habit_check_ins_user_date_habit",
+                columnList = "user_id, check_in_date, habit_id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HabitCheckIn {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "habit_check_ins_seq")
+    @SequenceGenerator(name = "habit_check_ins_seq", sequenceName = "habit_check_ins_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The user who completed the habit.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * The habit that was completed.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "habit_id", nullable = false)
+    private Habit habit;
+
+    /**
+     * Day on which the habit was completed.
+     */
+    @Column(nullable = false, updatable = false)
+    private LocalDate checkInDate;
+
+    /**
+     * Timestamp when the check-in was recorded.
+     */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
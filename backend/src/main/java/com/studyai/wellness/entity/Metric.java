@@ -6,14 +6,20 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
- * Entity class representing a health/fitness metric.
+ * Entity class representing a health/fitness metric sample.
  *
- * <p>This entity tracks user's health metrics such as calories burned,
- * active minutes, sleep hours, water intake, etc.</p>
+ * <p>This entity stores one numeric measurement of a user's health metric
+ * such as calories burned, active minutes, sleep hours, water intake, etc.
+ * Display formatting is applied when mapping to {@code MetricDto}. A user
+ * has at most one sample of a type per timestamp.</p>
  */
 @Entity
-@Table(name = "metrics")
+@Table(name = "metrics",
+        uniqueConstraints = @UniqueConstraint(name = "uk_metrics_user_type_recorded_at",
+                columnNames = {"user_id", "type", "recorded_at"}))
 @Data
 @Builder
 @NoArgsConstructor
@@ -21,7 +27,8 @@ import lombok.NoArgsConstructor;
 public class Metric {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "metrics_seq")
+    @SequenceGenerator(name = "metrics_seq", sequenceName = "metrics_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -32,38 +39,51 @@ public class Metric {
     private User user;
 
     /**
-     * Title of the metric (e.g., "Calories Burned").
+     * Type of the metric.
      */
-    @Column(nullable = false, length = 100)
-    private String title;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private MetricType type;
 
     /**
-     * Current value of the metric.
+     * Measured value in the unit of the metric type.
      */
-    @Column(nullable = false, length = 50)
-    private String value;
+    @Column(nullable = false)
+    private double value;
 
     /**
-     * Additional description or subtitle.
+     * Timestamp when this metric was recorded.
      */
-    @Column(length = 100)
-    private String subtitle;
+    @Column(nullable = false)
+    private LocalDateTime recordedAt;
 
     /**
-     * Trend indicator (e.g., "+15%", "-10%").
+     * Enumeration of metric types.
      */
-    @Column(length = 20)
-    private String trend;
+    public enum MetricType {
+        /**
+         * Calories burned, in kcal.
+         */
+        CALORIES_BURNED,
 
-    /**
-     * Color code for UI display (hex color).
-     */
-    @Column(length = 20)
-    private String color;
+        /**
+         * Active minutes.
+         */
+        ACTIVE_MINUTES,
 
-    /**
-     * Date when this metric was recorded.
-     */
-    @Column(nullable = false)
-    private String recordDate;
+        /**
+         * Sleep duration, in hours.
+         */
+        SLEEP_HOURS,
+
+        /**
+         * Water intake, in liters.
+         */
+        WATER_INTAKE,
+
+        /**
+         * Step count.
+         */
+        STEPS
+    }
 }
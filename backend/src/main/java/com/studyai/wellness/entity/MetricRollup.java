@@ -0,0 +1,163 @@
+package com.studyai.wellness.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Entity class holding aggregated metric samples of one user, type and time bucket.
+ *
+ * <p>Rollups exist per hour, day and week, so statistics over long periods
+ * read a few rows per bucket instead of every sample. They are updated with
+ * each upload and periodically rebuilt from the samples themselves.</p>
+ */
+@Entity
+@Table(name = "metric_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_metric_rollups_user_type_resolution_bucket",
+                columnNames = {"user_id", "type", "resolution", "bucket_start"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "metric_rollups_seq")
+    @SequenceGenerator(name = "metric_rollups_seq", sequenceName = "metric_rollups_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * ID of the user the samples belong to.
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * Type of the aggregated samples.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Metric.MetricType type;
+
+    /**
+     * Length of the bucket.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Resolution resolution;
+
+    /**
+     * Start of the bucket.
+     */
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    /**
+     * Smallest sample value in the bucket.
+     */
+    @Column(nullable = false)
+    private double minValue;
+
+    /**
+     * Largest sample value in the bucket.
+     */
+    @Column(nullable = false)
+    private double maxValue;
+
+    /**
+     * Sum of the sample values in the bucket.
+     */
+    @Column(nullable = false)
+    private double total;
+
+    /**
+     * Number of samples in the bucket.
+     */
+    @Column(nullable = false)
+    private long sampleCount;
+
+    /**
+     * Value of the latest sample in the bucket.
+     */
+    @Column(nullable = false)
+    private double lastValue;
+
+    /**
+     * Timestamp of the latest sample in the bucket.
+     */
+    @Column(nullable = false)
+    private LocalDateTime lastRecordedAt;
+
+    /**
+     * Enumeration of rollup bucket lengths, finest first.
+     */
+    public enum Resolution {
+        /**
+         * Clock hours.
+         */
+        HOUR,
+
+        /**
+         * Calendar days.
+         */
+        DAY,
+
+        /**
+         * Weeks from Monday to Sunday.
+         */
+        WEEK;
+
+        /**
+         * Get the start of the bucket containing a timestamp.
+         *
+         * @param time the timestamp
+         * @return start of its bucket
+         */
+        public LocalDateTime bucketStart(LocalDateTime time) {
+            return switch (this) {
+                case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+                case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+                case WEEK -> time.truncatedTo(ChronoUnit.DAYS).with(DayOfWeek.MONDAY);
+            };
+        }
+
+        /**
+         * Get the end of a bucket.
+         *
+         * @param bucketStart the start of the bucket
+         * @return start of the following bucket
+         */
+        public LocalDateTime bucketEnd(LocalDateTime bucketStart) {
+            return switch (this) {
+                case HOUR -> bucketStart.plusHours(1);
+                case DAY -> bucketStart.plusDays(1);
+                case WEEK -> bucketStart.plusWeeks(1);
+            };
+        }
+
+        /**
+         * Get the coarsest resolution whose buckets exactly cover a time range.
+         *
+         * @param from the start of the range (inclusive)
+         * @param to the end of the range (exclusive)
+         * @return the resolution
+         * @throws IllegalArgumentException if the range does not start and end on full hours
+         */
+        public static Resolution coarsest(LocalDateTime from, LocalDateTime to) {
+            Resolution[] resolutions = values();
+            for (int i = resolutions.length - 1; i >= 0; i--) {
+                Resolution resolution = resolutions[i];
+                if (resolution.bucketStart(from).equals(from) && resolution.bucketStart(to).equals(to)) {
+                    return resolution;
+                }
+            }
+            throw new IllegalArgumentException("Range is not aligned to hours: " + from + " to " + to);
+        }
+    }
+}
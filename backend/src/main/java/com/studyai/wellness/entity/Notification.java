@@ -12,10 +12,16 @@ import java.time.LocalDateTime;
  * Entity class representing a user notification.
  *
  * <p>This entity stores notifications sent to users such as
- * reminders, achievements, updates, and alerts.</p>
+ * reminders, achievements, updates, and alerts. Each user's notifications
+ * are paged newest first by creation time and ID, and unread ones are
+ * found through the (user, read) index.</p>
  */
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications",
+        indexes = {
+                @Index(name = "idx_notifications_user_created_at_id", columnList = "user_id, created_at, id"),
+                @Index(name = "idx_notifications_user_read", columnList = "user_id, read")
+        })
 @Data
 @Builder
 @NoArgsConstructor
@@ -23,7 +29,8 @@ import java.time.LocalDateTime;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -67,7 +74,10 @@ public class Notification {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // Notifications dispatched from the outbox keep the time they were queued
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
     }
 
     /**
@@ -0,0 +1,36 @@
+package com.studyai.wellness.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class holding the number of unread notifications of a user.
+ *
+ * <p>Kept up to date in the same transactions that create and read
+ * notifications, so the badge count needs no scan of the notifications
+ * table. Periodically reconciled with the notifications themselves.</p>
+ */
+@Entity
+@Table(name = "notification_counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCounter {
+
+    /**
+     * ID of the user the counter belongs to.
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * Number of unread notifications.
+     */
+    @Column(nullable = false)
+    private Long unread;
+}
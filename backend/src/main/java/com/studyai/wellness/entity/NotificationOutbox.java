@@ -0,0 +1,69 @@
+package com.studyai.wellness.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a notification waiting to be dispatched.
+ *
+ * <p>Written in the transaction that triggers the notification and deleted
+ * in the transaction that creates it, so a notification is never lost or
+ * created twice, even across restarts.</p>
+ */
+@Entity
+@Immutable
+@Table(name = "notification_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The user who receives the notification.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * Title of the notification.
+     */
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    /**
+     * Message content of the notification.
+     */
+    @Column(nullable = false, length = 1000)
+    private String message;
+
+    /**
+     * Type of notification.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Notification.NotificationType type;
+
+    /**
+     * Timestamp when the notification was queued.
+     */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,69 @@
+package com.studyai.wellness.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a chain of rotated refresh tokens.
+ *
+ * <p>A family starts at login and only its newest token can be exchanged.
+ * Presenting an older token means it was copied, so the whole family is
+ * revoked.</p>
+ */
+@Entity
+@Table(name = "refresh_token_families",
+        indexes = @Index(name = "idx_refresh_token_families_expires_at", columnList = "expires_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenFamily {
+
+    /**
+     * ID of the family, carried in its tokens' {@code fid} claim.
+     */
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    /**
+     * The user the family was issued to.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * ID ({@code jti}) of the only token of the family that may be exchanged.
+     */
+    @Column(nullable = false, length = 36)
+    private String currentTokenId;
+
+    /**
+     * When the current token expires.
+     */
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * When the family was revoked, or null while it is usable.
+     */
+    private Instant revokedAt;
+
+    /**
+     * Timestamp when the family was created.
+     */
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,40 @@
+package com.studyai.wellness.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Entity class representing a revoked JWT.
+ *
+ * <p>Only the token ID ({@code jti}) and its expiry are kept; rows are
+ * removed once the token would have expired anyway.</p>
+ */
+@Entity
+@Immutable
+@Table(name = "revoked_tokens",
+        indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    /**
+     * ID ({@code jti}) of the revoked token.
+     */
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    /**
+     * When the revoked token expires.
+     */
+    @Column(nullable = false, updatable = false)
+    private Instant expiresAt;
+}
@@ -24,7 +24,8 @@ import java.util.List;
 public class WeeklyProgress {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "weekly_progress_seq")
+    @SequenceGenerator(name = "weekly_progress_seq", sequenceName = "weekly_progress_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -0,0 +1,11 @@
+package com.studyai.wellness.exception;
+
+/**
+ * Thrown when a presented token is invalid, expired, revoked or reused.
+ */
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.studyai.wellness.exception;
+
+/**
+ * Thrown when a request is rejected to protect the server from overload.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,65 @@
+package com.studyai.wellness.export;
+
+import java.io.IOException;
+
+/**
+ * Reads values written by {@link BitWriter}.
+ */
+final class BitReader {
+
+    private final byte[] bytes;
+    private int position;
+    private int current;
+    private int remaining;
+
+    BitReader(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Read an unsigned value.
+     *
+     * @param bits width of the value, 0 to 64
+     * @return the value
+     * @throws IOException if the column ends first
+     */
+    long read(int bits) throws IOException {
+        long result = 0;
+        while (bits > 0) {
+            if (remaining == 0) {
+                if (position == bytes.length) {
+                    throw new IOException("Truncated column");
+                }
+                current = bytes[position++] & 0xFF;
+                remaining = 8;
+            }
+            int take = Math.min(remaining, bits);
+            remaining -= take;
+            bits -= take;
+            result = (result << take) | ((current >>> remaining) & ((1 << take) - 1));
+        }
+        return result;
+    }
+
+    /**
+     * Read a two's complement value.
+     *
+     * @param bits width of the value, 1 to 64
+     * @return the sign-extended value
+     * @throws IOException if the column ends first
+     */
+    long readSigned(int bits) throws IOException {
+        long value = read(bits);
+        return bits == 64 ? value : (value << (64 - bits)) >> (64 - bits);
+    }
+
+    /**
+     * Read a single bit.
+     *
+     * @return true if the bit is set
+     * @throws IOException if the column ends first
+     */
+    boolean readBit() throws IOException {
+        return read(1) == 1;
+    }
+}
@@ -0,0 +1,47 @@
+package com.studyai.wellness.export;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Writes values of arbitrary bit width, most significant bit first.
+ */
+final class BitWriter {
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private int current;
+    private int filled;
+
+    /**
+     * Write the low bits of a value.
+     *
+     * @param value the value
+     * @param bits number of low bits to write, 0 to 64
+     */
+    void write(long value, int bits) {
+        while (bits > 0) {
+            int take = Math.min(8 - filled, bits);
+            bits -= take;
+            current = (current << take) | (int) ((value >>> bits) & ((1 << take) - 1));
+            filled += take;
+            if (filled == 8) {
+                bytes.write(current);
+                current = 0;
+                filled = 0;
+            }
+        }
+    }
+
+    /**
+     * Get the written bytes, padding the last one with zero bits, and start over.
+     */
+    byte[] toByteArray() {
+        if (filled > 0) {
+            bytes.write(current << (8 - filled));
+        }
+        byte[] result = bytes.toByteArray();
+        bytes.reset();
+        current = 0;
+        filled = 0;
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+package com.studyai.wellness.export;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Constants of the binary metric export format.
+ *
+ * <p>An export starts with the {@link #MAGIC} number, followed by blocks and
+ * an {@code int} 0 terminating the stream. Each block holds up to
+ * {@link #BLOCK_SIZE} samples of one metric type in ascending time order:</p>
+ *
+ * <pre>
+ * int    sample count (&gt; 0)
+ * UTF    metric type name
+ * int    length of the timestamp column in bytes
+ * byte[] timestamp column: delta-of-delta encoded microseconds
+ * int    length of the value column in bytes
+ * byte[] value column: XOR-compressed doubles
+ * </pre>
+ *
+ * <p>Both columns are bit streams in the style of Facebook's Gorilla, and
+ * each block is encoded independently. Timestamps are the stored local
+ * date-times counted in microseconds since 1970-01-01T00:00. All integers
+ * are big-endian.</p>
+ */
+public final class MetricExportFormat {
+
+    /**
+     * Media type of an export.
+     */
+    public static final String MEDIA_TYPE = "application/x-wellness-metrics";
+
+    /**
+     * Magic number at the start of an export, "WMX1".
+     */
+    public static final int MAGIC = 0x574D5831;
+
+    /**
+     * Maximum number of samples in a block.
+     */
+    public static final int BLOCK_SIZE = 1024;
+
+    private MetricExportFormat() {
+    }
+
+    static long toMicros(LocalDateTime time) {
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), time);
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,165 @@
+package com.studyai.wellness.export;
+
+import com.studyai.wellness.entity.Metric.MetricType;
+import com.studyai.wellness.repository.projection.MetricPoint;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads exports written by {@link MetricExportWriter} one block at a time.
+ */
+public final class MetricExportReader {
+
+    private final DataInputStream in;
+    private boolean finished;
+
+    /**
+     * Start reading an export.
+     *
+     * @param in the stream to read from, not closed by the reader
+     * @throws IOException if the stream is not a metric export
+     */
+    public MetricExportReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(in);
+        if (this.in.readInt() != MetricExportFormat.MAGIC) {
+            throw new IOException("Not a metric export");
+        }
+    }
+
+    /**
+     * Read all samples of an export.
+     *
+     * @param in the stream to read from
+     * @return samples in export order, without IDs
+     * @throws IOException if the export is invalid
+     */
+    public static List<MetricPoint> readAll(InputStream in) throws IOException {
+        MetricExportReader reader = new MetricExportReader(in);
+        List<MetricPoint> samples = new ArrayList<>();
+        for (Block block = reader.readBlock(); block != null; block = reader.readBlock()) {
+            for (int i = 0; i < block.size(); i++) {
+                samples.add(new MetricPoint(null, block.type(), block.values()[i], block.recordedAt()[i]));
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * Read the next block.
+     *
+     * @return the block, or null at the end of the export
+     * @throws IOException if the export is invalid
+     */
+    public Block readBlock() throws IOException {
+        if (finished) {
+            return null;
+        }
+        int count = in.readInt();
+        if (count == 0) {
+            finished = true;
+            return null;
+        }
+        if (count < 0 || count > MetricExportFormat.BLOCK_SIZE) {
+            throw new IOException("Invalid block size: " + count);
+        }
+
+        MetricType type;
+        try {
+            type = MetricType.valueOf(in.readUTF());
+        } catch (IllegalArgumentException ex) {
+            throw new IOException("Unknown metric type", ex);
+        }
+        return new Block(type, readTimestamps(readColumn(), count), readValues(readColumn(), count));
+    }
+
+    private byte[] readColumn() throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid column length: " + length);
+        }
+        byte[] column = in.readNBytes(length);
+        if (column.length != length) {
+            throw new EOFException("Truncated export");
+        }
+        return column;
+    }
+
+    private static LocalDateTime[] readTimestamps(byte[] column, int count) throws IOException {
+        BitReader bits = new BitReader(column);
+        LocalDateTime[] timestamps = new LocalDateTime[count];
+        long time = bits.read(64);
+        long delta = 0;
+        timestamps[0] = MetricExportFormat.fromMicros(time);
+
+        for (int i = 1; i < count; i++) {
+            long deltaOfDelta;
+            if (!bits.readBit()) {
+                deltaOfDelta = 0;
+            } else if (!bits.readBit()) {
+                deltaOfDelta = bits.readSigned(7);
+            } else if (!bits.readBit()) {
+                deltaOfDelta = bits.readSigned(9);
+            } else if (!bits.readBit()) {
+                deltaOfDelta = bits.readSigned(12);
+            } else if (!bits.readBit()) {
+                deltaOfDelta = bits.readSigned(32);
+            } else {
+                deltaOfDelta = bits.readSigned(64);
+            }
+            delta += deltaOfDelta;
+            time += delta;
+            timestamps[i] = MetricExportFormat.fromMicros(time);
+        }
+        return timestamps;
+    }
+
+    private static double[] readValues(byte[] column, int count) throws IOException {
+        BitReader bits = new BitReader(column);
+        double[] values = new double[count];
+        long value = bits.read(64);
+        int leading = 0;
+        int trailing = 0;
+        values[0] = Double.longBitsToDouble(value);
+
+        for (int i = 1; i < count; i++) {
+            if (bits.readBit()) {
+                if (bits.readBit()) {
+                    leading = (int) bits.read(5);
+                    int meaningful = (int) bits.read(6);
+                    trailing = 64 - leading - (meaningful == 0 ? 64 : meaningful);
+                    if (trailing < 0) {
+                        throw new IOException("Invalid value column");
+                    }
+                }
+                value ^= bits.read(64 - leading - trailing) << trailing;
+            }
+            values[i] = Double.longBitsToDouble(value);
+        }
+        return values;
+    }
+
+    /**
+     * Samples of one metric type, stored column by column.
+     *
+     * @param type the metric type
+     * @param recordedAt when each sample was recorded, ascending
+     * @param values the measured values
+     */
+    public record Block(MetricType type, LocalDateTime[] recordedAt, double[] values) {
+
+        /**
+         * Number of samples in the block.
+         *
+         * @return the sample count
+         */
+        public int size() {
+            return values.length;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.studyai.wellness.export;
+
+import com.studyai.wellness.entity.Metric.MetricType;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Writes metric samples in the {@link MetricExportFormat}.
+ *
+ * <p>Samples must arrive grouped by type and in ascending time order within
+ * a type. Only the current block is buffered, so memory use does not depend
+ * on the number of samples.</p>
+ */
+public final class MetricExportWriter {
+
+    private final DataOutputStream out;
+    private final BitWriter timestamps = new BitWriter();
+    private final BitWriter values = new BitWriter();
+
+    private MetricType type;
+    private int count;
+    private long previousTime;
+    private long previousDelta;
+    private long previousBits;
+    private int previousLeading;
+    private int previousTrailing;
+
+    /**
+     * Start an export.
+     *
+     * @param out the stream to write to, not closed by the writer
+     * @throws IOException if writing fails
+     */
+    public MetricExportWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.out.writeInt(MetricExportFormat.MAGIC);
+    }
+
+    /**
+     * Append a sample.
+     *
+     * @param type the metric type
+     * @param recordedAt when the sample was recorded
+     * @param value the measured value
+     * @throws IOException if writing fails
+     */
+    public void write(MetricType type, LocalDateTime recordedAt, double value) throws IOException {
+        if (count == MetricExportFormat.BLOCK_SIZE || (count > 0 && type != this.type)) {
+            writeBlock();
+        }
+        this.type = type;
+        appendTime(MetricExportFormat.toMicros(recordedAt));
+        appendValue(Double.doubleToRawLongBits(value));
+        count++;
+    }
+
+    /**
+     * Write the last block and end the export.
+     *
+     * @throws IOException if writing fails
+     */
+    public void finish() throws IOException {
+        writeBlock();
+        out.writeInt(0);
+        out.flush();
+    }
+
+    private void writeBlock() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        out.writeInt(count);
+        out.writeUTF(type.name());
+        writeColumn(timestamps.toByteArray());
+        writeColumn(values.toByteArray());
+        count = 0;
+    }
+
+    private void writeColumn(byte[] column) throws IOException {
+        out.writeInt(column.length);
+        out.write(column);
+    }
+
+    /**
+     * Encode the change between consecutive deltas, which is 0 for regularly
+     * spaced samples, with a prefix code selecting its width.
+     */
+    private void appendTime(long time) {
+        if (count == 0) {
+            timestamps.write(time, 64);
+            previousDelta = 0;
+        } else {
+            long delta = time - previousTime;
+            long deltaOfDelta = delta - previousDelta;
+            if (deltaOfDelta == 0) {
+                timestamps.write(0b0, 1);
+            } else if (fits(deltaOfDelta, 7)) {
+                timestamps.write(0b10, 2);
+                timestamps.write(deltaOfDelta, 7);
+            } else if (fits(deltaOfDelta, 9)) {
+                timestamps.write(0b110, 3);
+                timestamps.write(deltaOfDelta, 9);
+            } else if (fits(deltaOfDelta, 12)) {
+                timestamps.write(0b1110, 4);
+                timestamps.write(deltaOfDelta, 12);
+            } else if (fits(deltaOfDelta, 32)) {
+                timestamps.write(0b11110, 5);
+                timestamps.write(deltaOfDelta, 32);
+            } else {
+                timestamps.write(0b11111, 5);
+                timestamps.write(deltaOfDelta, 64);
+            }
+            previousDelta = delta;
+        }
+        previousTime = time;
+    }
+
+    /**
+     * Encode the XOR with the previous value, storing only its meaningful
+     * bits and reusing the previous bit window when they fit in it.
+     */
+    private void appendValue(long bits) {
+        if (count == 0) {
+            values.write(bits, 64);
+            previousLeading = -1;
+        } else {
+            long xor = bits ^ previousBits;
+            if (xor == 0) {
+                values.write(0b0, 1);
+            } else {
+                int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+                int trailing = Long.numberOfTrailingZeros(xor);
+                if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing) {
+                    values.write(0b10, 2);
+                    values.write(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+                } else {
+                    int meaningful = 64 - leading - trailing;
+                    values.write(0b11, 2);
+                    values.write(leading, 5);
+                    values.write(meaningful & 63, 6);
+                    values.write(xor >>> trailing, meaningful);
+                    previousLeading = leading;
+                    previousTrailing = trailing;
+                }
+            }
+        }
+        previousBits = bits;
+    }
+
+    private static boolean fits(long value, int bits) {
+        long limit = 1L << (bits - 1);
+        return value >= -limit && value < limit;
+    }
+}
@@ -1,6 +1,7 @@
 package com.studyai.wellness.repository;
 
 import com.studyai.wellness.entity.Achievement;
+import com.studyai.wellness.repository.projection.AchievementView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -29,4 +30,12 @@ public interface AchievementRepository extends JpaRepository<Achievement, Long>
      * @return list of unlocked achievements
      */
     List<Achievement> findByUserIdAndUnlockedTrueOrderByUnlockedAtDesc(Long userId);
+
+    /**
+     * Find the displayed columns of all achievements for a specific user.
+     *
+     * @param userId the user ID
+     * @return list of achievement projections
+     */
+    List<AchievementView> findViewsByUserIdOrderByUnlockedAtDesc(Long userId);
 }
@@ -1,6 +1,7 @@
 package com.studyai.wellness.repository;
 
 import com.studyai.wellness.entity.Goal;
+import com.studyai.wellness.repository.projection.GoalView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -29,4 +30,12 @@ public interface GoalRepository extends JpaRepository<Goal, Long> {
      * @return list of achieved goals
      */
     List<Goal> findByUserIdAndAchievedTrue(Long userId);
+
+    /**
+     * Find the displayed columns of active goals for a specific user.
+     *
+     * @param userId the user ID
+     * @return list of goal projections
+     */
+    List<GoalView> findViewsByUserIdAndActiveTrueOrderByDeadlineAsc(Long userId);
 }
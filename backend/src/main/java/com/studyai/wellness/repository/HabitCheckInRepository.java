@@ -0,0 +1,89 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.entity.HabitCheckIn;
+import com.studyai.wellness.repository.projection.DailyCompletionCount;
+import com.studyai.wellness.repository.projection.HabitCheckInDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for HabitCheckIn entity.
+ *
+ * <p>This repository provides data access methods for HabitCheckIn entities.</p>
+ */
+@Repository
+public interface HabitCheckInRepository extends JpaRepository<HabitCheckIn, Long> {
+
+    /**
+     * Count the active habits completed per day within a date range.
+     *
+     * <p>Check-ins are unique per habit and day, so counting rows counts
+     * habits. Unlike the other range scans this one joins habits to skip
+     * inactive ones, so it is not served from the index alone. Days without
+     * any completion are not returned.</p>
+     *
+     * @param userId the user ID
+     * @param from the first day of the range (inclusive)
+     * @param to the last day of the range (inclusive)
+     * @return completion counts grouped by day
+     */
+    @Query("SELECT c.checkInDate AS date, COUNT(c) AS completed " +
+            "FROM HabitCheckIn c " +
+            "WHERE c.user.id = :userId AND c.habit.active = true " +
+            "AND c.checkInDate BETWEEN :from AND :to " +
+            "GROUP BY c.checkInDate")
+    List<DailyCompletionCount> countDailyCompletions(@Param("userId") Long userId,
+                                                     @Param("from") LocalDate from,
+                                                     @Param("to") LocalDate to);
+
+    /**
+     * Find the check-in days of a user's habits within a date range.
+     *
+     * <p>Served entirely from the (user, date, habit) index.</p>
+     *
+     * @param userId the user ID
+     * @param from the first day of the range (inclusive)
+     * @param to the last day of the range (inclusive)
+     * @return check-in days, newest first
+     */
+    @Query("SELECT c.habit.id AS habitId, c.checkInDate AS date " +
+            "FROM HabitCheckIn c " +
+            "WHERE c.user.id = :userId AND c.checkInDate BETWEEN :from AND :to " +
+            "ORDER BY c.checkInDate DESC")
+    List<HabitCheckInDay> findCheckInDays(@Param("userId") Long userId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+
+    /**
+     * Find the check-in dates of a single habit within a date range.
+     *
+     * @param userId the user ID
+     * @param habitId the habit ID
+     * @param from the first day of the range (inclusive)
+     * @param to the last day of the range (inclusive)
+     * @return check-in dates, newest first
+     */
+    @Query("SELECT c.checkInDate FROM HabitCheckIn c " +
+            "WHERE c.user.id = :userId AND c.habit.id = :habitId " +
+            "AND c.checkInDate BETWEEN :from AND :to " +
+            "ORDER BY c.checkInDate DESC")
+    List<LocalDate> findCheckInDates(@Param("userId") Long userId,
+                                     @Param("habitId") Long habitId,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+
+    /**
+     * Check whether a habit has already been completed on a day.
+     *
+     * @param userId the user ID
+     * @param habitId the habit ID
+     * @param checkInDate the day to check
+     * @return true if a check-in exists
+     */
+    boolean existsByUserIdAndHabitIdAndCheckInDate(Long userId, Long habitId, LocalDate checkInDate);
+}
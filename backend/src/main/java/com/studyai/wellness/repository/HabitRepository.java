@@ -1,10 +1,12 @@
 package com.studyai.wellness.repository;
 
 import com.studyai.wellness.entity.Habit;
+import com.studyai.wellness.repository.projection.HabitView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Habit entity.
@@ -29,4 +31,29 @@ public interface HabitRepository extends JpaRepository<Habit, Long> {
      * @return list of active habits
      */
     List<Habit> findByUserIdAndActiveTrue(Long userId);
+
+    /**
+     * Count active habits for a specific user.
+     *
+     * @param userId the user ID
+     * @return number of active habits
+     */
+    long countByUserIdAndActiveTrue(Long userId);
+
+    /**
+     * Find the displayed columns of active habits for a specific user.
+     *
+     * @param userId the user ID
+     * @return list of habit projections in display order
+     */
+    List<HabitView> findViewsByUserIdAndActiveTrueOrderByDisplayOrderAsc(Long userId);
+
+    /**
+     * Find the displayed columns of an active habit owned by a specific user.
+     *
+     * @param id the habit ID
+     * @param userId the user ID
+     * @return Optional containing the habit projection if found
+     */
+    Optional<HabitView> findViewByIdAndUserIdAndActiveTrue(Long id, Long userId);
 }
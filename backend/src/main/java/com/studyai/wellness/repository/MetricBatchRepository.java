@@ -0,0 +1,33 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.repository.projection.MetricPoint;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Batch write operations for Metric entities, implemented with plain JDBC.
+ */
+public interface MetricBatchRepository {
+
+    /**
+     * Store metric samples of a user in a single JDBC batch.
+     *
+     * <p>A sample with the same type and timestamp as a stored one replaces
+     * its value instead of adding a row.</p>
+     *
+     * @param userId the user ID
+     * @param samples the samples to store, at most one per type and timestamp
+     * @return the samples that added a row and those that changed a stored value
+     */
+    UpsertResult upsertAll(Long userId, Collection<MetricPoint> samples);
+
+    /**
+     * Outcome of an upsert. Samples equal to a stored one appear in neither list.
+     *
+     * @param inserted samples stored as new rows
+     * @param changed samples that replaced a different stored value
+     */
+    record UpsertResult(List<MetricPoint> inserted, List<MetricPoint> changed) {
+    }
+}
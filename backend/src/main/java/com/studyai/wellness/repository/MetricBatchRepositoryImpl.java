@@ -0,0 +1,186 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.entity.Metric;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JDBC implementation of {@link MetricBatchRepository}.
+ *
+ * <p>Upserts run as a batch of updates by the (user, type, recorded_at) key
+ * that skip unchanged values, followed by a batch of inserts for the
+ * samples not stored yet. Rows are classified by their batch update counts.
+ * A driver that reports {@link Statement#SUCCESS_NO_INFO} instead falls back
+ * to one query re-reading all such rows of a batch: an updated sample counts
+ * as changed if it exists, since a rewrite with the same value cannot be
+ * told apart, and an inserted sample counts as new if a row with its
+ * generated ID exists. IDs of new rows come from the same pooled generator
+ * Hibernate uses for {@link Metric}, so they never collide with IDs assigned
+ * on persist.</p>
+ *
+ * <p>The update and insert are not atomic together: callers lock the user
+ * with {@link UserRepository#lockById} first, otherwise a concurrent upload
+ * inserting the same sample fails the batch with a unique key violation.</p>
+ */
+@RequiredArgsConstructor
+public class MetricBatchRepositoryImpl implements MetricBatchRepository {
+
+    private static final String UPDATE_SQL =
+            "UPDATE \"metrics\" SET \"value\" = ? " +
+            "WHERE \"user_id\" = ? AND \"type\" = ? AND \"recorded_at\" = ? AND \"value\" <> ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO \"metrics\" (\"id\", \"user_id\", \"type\", \"value\", \"recorded_at\") " +
+            "SELECT CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS VARCHAR(30)), " +
+            "CAST(? AS DOUBLE PRECISION), CAST(? AS TIMESTAMP) " +
+            "WHERE NOT EXISTS (SELECT 1 FROM \"metrics\" " +
+            "WHERE \"user_id\" = ? AND \"type\" = ? AND \"recorded_at\" = ?)";
+
+    private static final String STORED_KEYS_SQL =
+            "SELECT \"type\", \"recorded_at\" FROM \"metrics\" WHERE \"user_id\" = ? AND \"recorded_at\" IN (%s)";
+
+    private static final String STORED_IDS_SQL =
+            "SELECT \"id\" FROM \"metrics\" WHERE \"id\" IN (%s)";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public UpsertResult upsertAll(Long userId, Collection<MetricPoint> samples) {
+        if (samples.isEmpty()) {
+            return new UpsertResult(List.of(), List.of());
+        }
+        List<MetricPoint> rows = List.copyOf(samples);
+
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, rows, rows.size(), (statement, sample) -> {
+            statement.setDouble(1, sample.value());
+            statement.setLong(2, userId);
+            statement.setString(3, sample.type().name());
+            statement.setObject(4, sample.recordedAt());
+            statement.setDouble(5, sample.value());
+        })[0];
+
+        Set<SampleKey> storedKeys = storedKeys(userId, rows, updated);
+        List<MetricPoint> changed = new ArrayList<>();
+        List<MetricPoint> candidates = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            MetricPoint sample = rows.get(i);
+            boolean stored = updated[i] == Statement.SUCCESS_NO_INFO
+                    ? storedKeys.contains(new SampleKey(sample.type(), sample.recordedAt()))
+                    : updated[i] > 0;
+            if (stored) {
+                changed.add(sample);
+            } else {
+                candidates.add(sample);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return new UpsertResult(List.of(), changed);
+        }
+
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator idGenerator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel().getEntityDescriptor(Metric.class).getGenerator();
+
+        long[] ids = new long[candidates.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = (Long) idGenerator.generate(session, null, null, EventType.INSERT);
+        }
+
+        int[] inserted = jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                MetricPoint sample = candidates.get(i);
+                statement.setLong(1, ids[i]);
+                statement.setLong(2, userId);
+                statement.setString(3, sample.type().name());
+                statement.setDouble(4, sample.value());
+                statement.setObject(5, sample.recordedAt());
+                statement.setLong(6, userId);
+                statement.setString(7, sample.type().name());
+                statement.setObject(8, sample.recordedAt());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return candidates.size();
+            }
+        });
+
+        Set<Long> storedIds = storedIds(ids, inserted);
+        List<MetricPoint> inserts = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            boolean stored = inserted[i] == Statement.SUCCESS_NO_INFO
+                    ? storedIds.contains(ids[i])
+                    : inserted[i] > 0;
+            if (stored) {
+                inserts.add(candidates.get(i));
+            }
+        }
+        return new UpsertResult(inserts, changed);
+    }
+
+    /**
+     * Re-read which of the samples without an update count are stored, in one query.
+     */
+    private Set<SampleKey> storedKeys(Long userId, List<MetricPoint> rows, int[] counts) {
+        List<Object> args = new ArrayList<>();
+        args.add(userId);
+        for (int i = 0; i < rows.size(); i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                args.add(rows.get(i).recordedAt());
+            }
+        }
+        if (args.size() == 1) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(
+                String.format(STORED_KEYS_SQL, placeholders(args.size() - 1)),
+                (rs, rowNum) -> new SampleKey(Metric.MetricType.valueOf(rs.getString(1)),
+                        rs.getObject(2, LocalDateTime.class)),
+                args.toArray()));
+    }
+
+    /**
+     * Re-read which of the inserted IDs without an update count are stored, in one query.
+     */
+    private Set<Long> storedIds(long[] ids, int[] counts) {
+        List<Object> args = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                args.add(ids[i]);
+            }
+        }
+        if (args.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                String.format(STORED_IDS_SQL, placeholders(args.size())), Long.class, args.toArray()));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private record SampleKey(Metric.MetricType type, LocalDateTime recordedAt) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.repository.projection.MetricPoint;
+
+import java.util.List;
+
+/**
+ * Read operations for the newest Metric samples, one index range scan per type.
+ */
+public interface MetricLatestRepository {
+
+    /**
+     * Find the latest metrics for a specific user.
+     *
+     * <p>Returns at most the {@code depth} newest samples of each metric type.
+     * Each type is read by a separate {@code LIMIT} branch over the
+     * (user, type, recorded_at) unique index, so the cost does not grow with
+     * the user's history.</p>
+     *
+     * @param userId the user ID
+     * @param depth number of samples to return per metric type
+     * @return list of metric samples grouped by type, newest first within each type
+     */
+    List<MetricPoint> findLatestMetricsByUserId(Long userId, int depth);
+}
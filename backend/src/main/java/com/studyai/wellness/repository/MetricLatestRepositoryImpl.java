@@ -0,0 +1,46 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.entity.Metric;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * JPQL implementation of {@link MetricLatestRepository}.
+ *
+ * <p>The query has one branch per {@link Metric.MetricType}, each bound to
+ * its type by a parameter named after it. The branches are generated once
+ * from the enum, so new types are covered without changing the query.</p>
+ */
+@RequiredArgsConstructor
+public class MetricLatestRepositoryImpl implements MetricLatestRepository {
+
+    private static final String LATEST_QUERY =
+            "SELECT new com.studyai.wellness.repository.projection.MetricPoint(" +
+            "m.id, m.type, m.value, m.recordedAt) " +
+            "FROM Metric m WHERE m.id IN (" +
+            Arrays.stream(Metric.MetricType.values())
+                    .map(type -> "(SELECT x.id FROM Metric x " +
+                            "WHERE x.user.id = :userId AND x.type = :" + type.name() + " " +
+                            "ORDER BY x.recordedAt DESC, x.id DESC LIMIT :depth)")
+                    .collect(Collectors.joining(" UNION ALL ")) +
+            ") ORDER BY m.type, m.recordedAt DESC, m.id DESC";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<MetricPoint> findLatestMetricsByUserId(Long userId, int depth) {
+        TypedQuery<MetricPoint> query = entityManager.createQuery(LATEST_QUERY, MetricPoint.class)
+                .setParameter("userId", userId)
+                .setParameter("depth", depth);
+        for (Metric.MetricType type : Metric.MetricType.values()) {
+            query.setParameter(type.name(), type);
+        }
+        return query.getResultList();
+    }
+}
@@ -1,20 +1,28 @@
 package com.studyai.wellness.repository;
 
 import com.studyai.wellness.entity.Metric;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Metric entity.
  *
- * <p>This repository provides data access methods for Metric entities.</p>
+ * <p>This repository provides data access methods for Metric entities.
+ * Batch writes come from {@link MetricBatchRepository}, the newest samples
+ * per type from {@link MetricLatestRepository}.</p>
  */
 @Repository
-public interface MetricRepository extends JpaRepository<Metric, Long> {
+public interface MetricRepository extends JpaRepository<Metric, Long>, MetricBatchRepository,
+        MetricLatestRepository {
 
     /**
      * Find all metrics for a specific user.
@@ -25,20 +33,26 @@ public interface MetricRepository extends JpaRepository<Metric, Long> {
     List<Metric> findByUserId(Long userId);
 
     /**
-     * Find the latest metrics for a specific user.
+     * Find the IDs of all users with samples.
      *
-     * @param userId the user ID
-     * @return list of latest metrics
+     * @return list of user IDs, ascending
      */
-    @Query("SELECT m FROM Metric m WHERE m.user.id = :userId ORDER BY m.recordDate DESC")
-    List<Metric> findLatestMetricsByUserId(@Param("userId") Long userId);
+    @Query("SELECT DISTINCT m.user.id FROM Metric m ORDER BY m.user.id")
+    List<Long> findUserIds();
 
     /**
-     * Find metrics by record date.
+     * Stream all samples of a specific user, grouped by type and oldest
+     * first within each type.
+     *
+     * <p>Rows are fetched from a database cursor as the stream is consumed.
+     * Must be consumed inside a transaction.</p>
      *
      * @param userId the user ID
-     * @param recordDate the record date
-     * @return list of metrics for the date
+     * @return stream of MetricPoint
      */
-    List<Metric> findByUserIdAndRecordDate(Long userId, String recordDate);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.studyai.wellness.repository.projection.MetricPoint(" +
+            "m.id, m.type, m.value, m.recordedAt) " +
+            "FROM Metric m WHERE m.user.id = :userId ORDER BY m.type, m.recordedAt")
+    Stream<MetricPoint> streamByUserId(@Param("userId") Long userId);
 }
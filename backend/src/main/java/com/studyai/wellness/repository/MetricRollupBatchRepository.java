@@ -0,0 +1,28 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.entity.MetricRollup;
+
+import java.util.Collection;
+
+/**
+ * Batch write operations for MetricRollup entities, implemented with plain JDBC.
+ */
+public interface MetricRollupBatchRepository {
+
+    /**
+     * Merge aggregates of new samples into the stored rollups in a single JDBC batch.
+     *
+     * <p>Each rollup is combined with the stored one of the same user, type,
+     * resolution and bucket, or inserted if there is none.</p>
+     *
+     * @param rollups aggregates of samples not yet included, at most one per bucket
+     */
+    void mergeAll(Collection<MetricRollup> rollups);
+
+    /**
+     * Insert rollups in a single JDBC batch.
+     *
+     * @param rollups rollups of buckets that are not stored yet
+     */
+    void insertAll(Collection<MetricRollup> rollups);
+}
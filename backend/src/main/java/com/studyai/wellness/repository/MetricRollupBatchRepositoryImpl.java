@@ -0,0 +1,120 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.entity.MetricRollup;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link MetricRollupBatchRepository}.
+ *
+ * <p>Merges run as a batch of relative updates by the (user, type,
+ * resolution, bucket_start) key followed by a batch of inserts for the
+ * buckets no update matched, like the metric upsert. The updates are
+ * applied by the database, so merges of different uploads into the same
+ * bucket do not overwrite each other. A driver that reports
+ * {@link Statement#SUCCESS_NO_INFO} instead of a row count falls back to
+ * checking whether each bucket exists; callers lock the user, so no other
+ * merge can insert the bucket in between.</p>
+ */
+@RequiredArgsConstructor
+public class MetricRollupBatchRepositoryImpl implements MetricRollupBatchRepository {
+
+    private static final String MERGE_SQL =
+            "UPDATE \"metric_rollups\" SET " +
+            "\"min_value\" = LEAST(\"min_value\", ?), " +
+            "\"max_value\" = GREATEST(\"max_value\", ?), " +
+            "\"total\" = \"total\" + ?, " +
+            "\"sample_count\" = \"sample_count\" + ?, " +
+            "\"last_value\" = CASE WHEN \"last_recorded_at\" > ? THEN \"last_value\" ELSE ? END, " +
+            "\"last_recorded_at\" = GREATEST(\"last_recorded_at\", ?) " +
+            "WHERE \"user_id\" = ? AND \"type\" = ? AND \"resolution\" = ? AND \"bucket_start\" = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO \"metric_rollups\" (\"id\", \"user_id\", \"type\", \"resolution\", \"bucket_start\", " +
+            "\"min_value\", \"max_value\", \"total\", \"sample_count\", \"last_value\", \"last_recorded_at\") " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String EXISTS_SQL =
+            "SELECT COUNT(*) FROM \"metric_rollups\" " +
+            "WHERE \"user_id\" = ? AND \"type\" = ? AND \"resolution\" = ? AND \"bucket_start\" = ?";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void mergeAll(Collection<MetricRollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+        List<MetricRollup> rows = List.copyOf(rollups);
+
+        int[] updated = jdbcTemplate.batchUpdate(MERGE_SQL, rows, rows.size(), (statement, rollup) -> {
+            statement.setDouble(1, rollup.getMinValue());
+            statement.setDouble(2, rollup.getMaxValue());
+            statement.setDouble(3, rollup.getTotal());
+            statement.setLong(4, rollup.getSampleCount());
+            statement.setObject(5, rollup.getLastRecordedAt());
+            statement.setDouble(6, rollup.getLastValue());
+            statement.setObject(7, rollup.getLastRecordedAt());
+            statement.setLong(8, rollup.getUserId());
+            statement.setString(9, rollup.getType().name());
+            statement.setString(10, rollup.getResolution().name());
+            statement.setObject(11, rollup.getBucketStart());
+        })[0];
+
+        List<MetricRollup> inserts = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (!merged(updated[i], rows.get(i))) {
+                inserts.add(rows.get(i));
+            }
+        }
+        insertAll(inserts);
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(Collection<MetricRollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator idGenerator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel().getEntityDescriptor(MetricRollup.class).getGenerator();
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rollups, rollups.size(), (statement, rollup) -> {
+            statement.setLong(1, (Long) idGenerator.generate(session, null, null, EventType.INSERT));
+            statement.setLong(2, rollup.getUserId());
+            statement.setString(3, rollup.getType().name());
+            statement.setString(4, rollup.getResolution().name());
+            statement.setObject(5, rollup.getBucketStart());
+            statement.setDouble(6, rollup.getMinValue());
+            statement.setDouble(7, rollup.getMaxValue());
+            statement.setDouble(8, rollup.getTotal());
+            statement.setLong(9, rollup.getSampleCount());
+            statement.setDouble(10, rollup.getLastValue());
+            statement.setObject(11, rollup.getLastRecordedAt());
+        });
+    }
+
+    private boolean merged(int updateCount, MetricRollup rollup) {
+        if (updateCount != Statement.SUCCESS_NO_INFO) {
+            return updateCount > 0;
+        }
+        // The merge matches every existing bucket, so existence tells whether it applied
+        Long count = jdbcTemplate.queryForObject(EXISTS_SQL, Long.class, rollup.getUserId(),
+                rollup.getType().name(), rollup.getResolution().name(), rollup.getBucketStart());
+        return count != null && count > 0;
+    }
+}
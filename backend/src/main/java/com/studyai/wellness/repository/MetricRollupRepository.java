@@ -0,0 +1,81 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.entity.Metric;
+import com.studyai.wellness.entity.MetricRollup;
+import com.studyai.wellness.repository.projection.MetricAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for MetricRollup entity.
+ *
+ * <p>Batch writes come from {@link MetricRollupBatchRepository}.</p>
+ */
+@Repository
+public interface MetricRollupRepository extends JpaRepository<MetricRollup, Long>, MetricRollupBatchRepository {
+
+    /**
+     * Aggregate a user's rollups of one resolution per metric type within a time range.
+     *
+     * @param userId the user ID
+     * @param resolution the resolution whose buckets cover the range
+     * @param from the start of the range (inclusive)
+     * @param to the end of the range (exclusive)
+     * @return one aggregate per metric type with samples in the range
+     */
+    @Query("SELECT r.type AS type, SUM(r.total) AS total, SUM(r.sampleCount) AS count FROM MetricRollup r " +
+            "WHERE r.userId = :userId AND r.resolution = :resolution " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "GROUP BY r.type")
+    List<MetricAggregate> aggregateByType(@Param("userId") Long userId,
+                                          @Param("resolution") MetricRollup.Resolution resolution,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    /**
+     * Recompute the values of a rollup from its samples after some of them were replaced.
+     *
+     * <p>The number of samples and the latest timestamp do not change when a
+     * value is replaced, so only the values are read again.</p>
+     *
+     * @param userId the user ID
+     * @param type the metric type
+     * @param resolution the resolution of the rollup
+     * @param bucketStart the start of the bucket
+     * @param bucketEnd the end of the bucket
+     * @return number of updated rollups, 0 if the bucket has none yet
+     */
+    @Modifying
+    @Query("UPDATE MetricRollup r SET " +
+            "r.minValue = (SELECT MIN(m.value) FROM Metric m WHERE m.user.id = r.userId AND m.type = r.type " +
+            "AND m.recordedAt >= r.bucketStart AND m.recordedAt < :bucketEnd), " +
+            "r.maxValue = (SELECT MAX(m.value) FROM Metric m WHERE m.user.id = r.userId AND m.type = r.type " +
+            "AND m.recordedAt >= r.bucketStart AND m.recordedAt < :bucketEnd), " +
+            "r.total = (SELECT SUM(m.value) FROM Metric m WHERE m.user.id = r.userId AND m.type = r.type " +
+            "AND m.recordedAt >= r.bucketStart AND m.recordedAt < :bucketEnd), " +
+            "r.lastValue = (SELECT m.value FROM Metric m WHERE m.user.id = r.userId AND m.type = r.type " +
+            "AND m.recordedAt = r.lastRecordedAt) " +
+            "WHERE r.userId = :userId AND r.type = :type AND r.resolution = :resolution " +
+            "AND r.bucketStart = :bucketStart")
+    int refresh(@Param("userId") Long userId,
+                @Param("type") Metric.MetricType type,
+                @Param("resolution") MetricRollup.Resolution resolution,
+                @Param("bucketStart") LocalDateTime bucketStart,
+                @Param("bucketEnd") LocalDateTime bucketEnd);
+
+    /**
+     * Delete all rollups of a specific user.
+     *
+     * @param userId the user ID
+     * @return number of deleted rollups
+     */
+    @Modifying
+    @Query("DELETE FROM MetricRollup r WHERE r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,83 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.entity.NotificationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for NotificationCounter entity.
+ *
+ * <p>Counters are changed with relative updates, so concurrent changes for
+ * the same user serialize on the row instead of overwriting each other.</p>
+ */
+@Repository
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, Long> {
+
+    /**
+     * Find the unread count of a specific user.
+     *
+     * @param userId the user ID
+     * @return Optional containing the count if the user has a counter
+     */
+    @Query("SELECT c.unread FROM NotificationCounter c WHERE c.userId = :userId")
+    Optional<Long> findUnreadByUserId(@Param("userId") Long userId);
+
+    /**
+     * Add to the unread count of a specific user.
+     *
+     * @param userId the user ID
+     * @param delta the change, negative when notifications are read
+     * @return number of updated counters, 0 if the user has none yet
+     * @see #createByUserId(Long)
+     */
+    @Modifying
+    @Query("UPDATE NotificationCounter c SET c.unread = c.unread + :delta WHERE c.userId = :userId")
+    int add(@Param("userId") Long userId, @Param("delta") long delta);
+
+    /**
+     * Create the counter of a specific user from the number of unread
+     * notifications, unless it exists.
+     *
+     * <p>Pending changes are flushed first, so the count includes them.</p>
+     *
+     * @param userId the user ID
+     * @return number of created counters
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO NotificationCounter (userId, unread) "
+            + "SELECT u.id, (SELECT count(n) FROM Notification n WHERE n.user.id = u.id AND n.read = false) "
+            + "FROM User u WHERE u.id = :userId "
+            + "AND NOT EXISTS (SELECT 1 FROM NotificationCounter c WHERE c.userId = u.id)")
+    int createByUserId(@Param("userId") Long userId);
+
+    /**
+     * Reset the counters that differ from the number of unread notifications.
+     *
+     * <p>Only drifted counters are written, so counters that are correct
+     * are not locked.</p>
+     *
+     * @return number of updated counters
+     */
+    @Modifying
+    @Query("UPDATE NotificationCounter c SET c.unread = "
+            + "(SELECT count(n) FROM Notification n WHERE n.user.id = c.userId AND n.read = false) "
+            + "WHERE c.unread <> "
+            + "(SELECT count(n) FROM Notification n WHERE n.user.id = c.userId AND n.read = false)")
+    int reconcileDrifted();
+
+    /**
+     * Create counters for users that do not have one yet.
+     *
+     * @return number of created counters
+     */
+    @Modifying
+    @Query("INSERT INTO NotificationCounter (userId, unread) "
+            + "SELECT u.id, (SELECT count(n) FROM Notification n WHERE n.user.id = u.id AND n.read = false) "
+            + "FROM User u WHERE NOT EXISTS (SELECT 1 FROM NotificationCounter c WHERE c.userId = u.id)")
+    int createMissing();
+}
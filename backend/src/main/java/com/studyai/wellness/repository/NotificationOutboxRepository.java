@@ -0,0 +1,31 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.entity.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for NotificationOutbox entity.
+ *
+ * <p>This repository provides data access methods for queued notifications.</p>
+ */
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * Find the oldest queued notifications and lock them until the
+     * transaction ends.
+     *
+     * @param limit maximum number of notifications
+     * @return queued notifications in the order they were queued
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM NotificationOutbox o ORDER BY o.id")
+    List<NotificationOutbox> findOldestForUpdate(Limit limit);
+}
@@ -1,11 +1,14 @@
 package com.studyai.wellness.repository;
 
 import com.studyai.wellness.entity.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -17,12 +20,44 @@ import java.util.List;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     /**
-     * Find all notifications for a specific user, ordered by creation date.
+     * Find the newest notifications of a specific user.
      *
      * @param userId the user ID
-     * @return list of notifications
+     * @param limit maximum number of notifications
+     * @return notifications ordered newest first
      */
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId "
+            + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findFirstPage(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Find the notifications of a specific user that come after a position
+     * in newest-first order.
+     *
+     * @param userId the user ID
+     * @param createdAt creation time of the last notification already seen
+     * @param id ID of the last notification already seen
+     * @param limit maximum number of notifications
+     * @return notifications ordered newest first
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId "
+            + "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) "
+            + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findPageAfter(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Limit limit);
+
+    /**
+     * Find the notifications of a specific user created after a given one,
+     * oldest first.
+     *
+     * @param userId the user ID
+     * @param id ID of the last notification already seen
+     * @param limit maximum number of notifications
+     * @return notifications in ID order
+     */
+    List<Notification> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id, Limit limit);
 
     /**
      * Find unread notifications for a specific user.
@@ -41,10 +76,32 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     long countByUserIdAndReadFalse(Long userId);
 
     /**
-     * Mark all notifications as read for a specific user.
+     * Check whether a notification belongs to a specific user.
+     *
+     * @param id the notification ID
+     * @param userId the user ID
+     * @return true if the notification exists and belongs to the user
+     */
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Mark a notification as read if it is unread and belongs to a specific user.
+     *
+     * @param id the notification ID
+     * @param userId the user ID
+     * @return number of updated notifications, 0 if already read, not found or owned by another user
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.id = :id AND n.user.id = :userId AND n.read = false")
+    int markAsReadByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Mark all unread notifications as read for a specific user in one statement.
      *
      * @param userId the user ID
+     * @return number of notifications marked as read
      */
-    @Query("UPDATE Notification n SET n.read = true WHERE n.user.id = :userId")
-    void markAllAsReadByUserId(@Param("userId") Long userId);
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.user.id = :userId AND n.read = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
 }
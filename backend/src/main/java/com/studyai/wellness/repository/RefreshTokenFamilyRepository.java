@@ -0,0 +1,60 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.entity.RefreshTokenFamily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * Repository interface for RefreshTokenFamily entity.
+ *
+ * <p>This repository provides data access methods for RefreshTokenFamily entities.</p>
+ */
+@Repository
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, String> {
+
+    /**
+     * Replace the current token of a usable family, if it is the given one.
+     *
+     * <p>Concurrent rotations of the same token are serialized by the row
+     * update, so only one of them succeeds.</p>
+     *
+     * @param familyId the family ID
+     * @param tokenId the presented token ID
+     * @param nextTokenId the ID of the token replacing it
+     * @param expiresAt when the new token expires
+     * @return 1 if rotated, 0 if the token is not current or the family is revoked
+     */
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.currentTokenId = :nextTokenId, f.expiresAt = :expiresAt " +
+            "WHERE f.id = :familyId AND f.currentTokenId = :tokenId AND f.revokedAt IS NULL")
+    int rotate(@Param("familyId") String familyId,
+               @Param("tokenId") String tokenId,
+               @Param("nextTokenId") String nextTokenId,
+               @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Revoke a family.
+     *
+     * @param familyId the family ID
+     * @param now the revocation time
+     * @return 1 if revoked, 0 if unknown or already revoked
+     */
+    @Modifying
+    @Query("UPDATE RefreshTokenFamily f SET f.revokedAt = :now WHERE f.id = :familyId AND f.revokedAt IS NULL")
+    int revoke(@Param("familyId") String familyId, @Param("now") Instant now);
+
+    /**
+     * Delete families whose current token has expired.
+     *
+     * @param now the current time
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,49 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.entity.RevokedToken;
+import com.studyai.wellness.repository.projection.RevokedTokenView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for RevokedToken entity.
+ *
+ * <p>This repository provides data access methods for RevokedToken entities.</p>
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Stream revocations of tokens that have not expired yet.
+     *
+     * <p>Rows are fetched from a database cursor as the stream is consumed.
+     * Must be consumed inside a transaction. Rows are read as scalar
+     * projections, so nothing accumulates in the persistence context however
+     * many revocations there are.</p>
+     *
+     * @param now the current time
+     * @return stream of RevokedTokenView
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT r.tokenId AS tokenId, r.expiresAt AS expiresAt FROM RevokedToken r WHERE r.expiresAt > :now")
+    Stream<RevokedTokenView> streamByExpiresAtAfter(@Param("now") Instant now);
+
+    /**
+     * Delete revocations of tokens that have expired.
+     *
+     * @param now the current time
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
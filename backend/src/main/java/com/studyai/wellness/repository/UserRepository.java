@@ -1,7 +1,10 @@
 package com.studyai.wellness.repository;
 
 import com.studyai.wellness.entity.User;
+import com.studyai.wellness.repository.projection.UserView;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -39,4 +42,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT u FROM User u WHERE u.email = :email AND u.active = true")
     Optional<User> findActiveUserByEmail(String email);
+
+    /**
+     * Find the displayed columns of a user.
+     *
+     * @param id the ID of the user
+     * @return Optional containing the user projection if found
+     */
+    @Query("SELECT u.id AS id, u.email AS email, u.name AS name, u.avatar AS avatar, u.createdAt AS createdAt, " +
+            "u.preferences.notificationsEnabled AS notificationsEnabled, u.preferences.darkMode AS darkMode, " +
+            "u.preferences.language AS language FROM User u WHERE u.id = :id")
+    Optional<UserView> findViewById(Long id);
+
+    /**
+     * Lock a user's row until the transaction ends, serializing writers of
+     * data derived from all of the user's rows.
+     *
+     * @param id the ID of the user
+     * @return the ID if the user exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u.id FROM User u WHERE u.id = :id")
+    Optional<Long> lockById(Long id);
 }
@@ -0,0 +1,44 @@
+package com.studyai.wellness.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of the displayed columns of an achievement.
+ */
+public interface AchievementView {
+
+    /**
+     * ID of the achievement.
+     *
+     * @return the achievement ID
+     */
+    Long getId();
+
+    /**
+     * Title of the achievement.
+     *
+     * @return the title
+     */
+    String getTitle();
+
+    /**
+     * Detailed description.
+     *
+     * @return the description
+     */
+    String getDescription();
+
+    /**
+     * Icon representing the achievement.
+     *
+     * @return the icon
+     */
+    String getIcon();
+
+    /**
+     * Timestamp when the achievement was unlocked.
+     *
+     * @return the unlock time
+     */
+    LocalDateTime getUnlockedAt();
+}
@@ -0,0 +1,23 @@
+package com.studyai.wellness.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of the number of distinct habits completed on a day.
+ */
+public interface DailyCompletionCount {
+
+    /**
+     * Day the completions belong to.
+     *
+     * @return the check-in date
+     */
+    LocalDate getDate();
+
+    /**
+     * Number of distinct active habits completed on that day.
+     *
+     * @return completed habit count
+     */
+    long getCompleted();
+}
@@ -0,0 +1,51 @@
+package com.studyai.wellness.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of the displayed columns of a goal.
+ */
+public interface GoalView {
+
+    /**
+     * ID of the goal.
+     *
+     * @return the goal ID
+     */
+    Long getId();
+
+    /**
+     * Title of the goal.
+     *
+     * @return the title
+     */
+    String getTitle();
+
+    /**
+     * Current progress value.
+     *
+     * @return the current value
+     */
+    Double getCurrent();
+
+    /**
+     * Target value to achieve.
+     *
+     * @return the target value
+     */
+    Double getTarget();
+
+    /**
+     * Unit of measurement.
+     *
+     * @return the unit
+     */
+    String getUnit();
+
+    /**
+     * Deadline for achieving the goal.
+     *
+     * @return the deadline
+     */
+    LocalDate getDeadline();
+}
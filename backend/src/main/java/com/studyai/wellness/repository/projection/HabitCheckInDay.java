@@ -0,0 +1,23 @@
+package com.studyai.wellness.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of a single habit check-in day.
+ */
+public interface HabitCheckInDay {
+
+    /**
+     * ID of the completed habit.
+     *
+     * @return the habit ID
+     */
+    Long getHabitId();
+
+    /**
+     * Day on which the habit was completed.
+     *
+     * @return the check-in date
+     */
+    LocalDate getDate();
+}
@@ -0,0 +1,28 @@
+package com.studyai.wellness.repository.projection;
+
+/**
+ * Read-only projection of the displayed columns of a habit.
+ */
+public interface HabitView {
+
+    /**
+     * ID of the habit.
+     *
+     * @return the habit ID
+     */
+    Long getId();
+
+    /**
+     * Name of the habit.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Icon representing the habit.
+     *
+     * @return the icon
+     */
+    String getIcon();
+}
@@ -0,0 +1,30 @@
+package com.studyai.wellness.repository.projection;
+
+import com.studyai.wellness.entity.Metric;
+
+/**
+ * Projection of aggregated metric values of one type.
+ */
+public interface MetricAggregate {
+
+    /**
+     * Type of the aggregated metric.
+     *
+     * @return the metric type
+     */
+    Metric.MetricType getType();
+
+    /**
+     * Sum of the sample values.
+     *
+     * @return total value
+     */
+    double getTotal();
+
+    /**
+     * Number of samples.
+     *
+     * @return sample count
+     */
+    long getCount();
+}
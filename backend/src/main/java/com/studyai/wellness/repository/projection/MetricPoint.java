@@ -0,0 +1,20 @@
+package com.studyai.wellness.repository.projection;
+
+import com.studyai.wellness.entity.Metric;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a metric sample.
+ *
+ * <p>A record rather than an interface so that samples can also be created
+ * in memory, e.g. when parsing uploads that then advance statistics
+ * snapshots.</p>
+ *
+ * @param id the sample ID
+ * @param type the metric type
+ * @param value the measured value
+ * @param recordedAt when the sample was recorded
+ */
+public record MetricPoint(Long id, Metric.MetricType type, double value, LocalDateTime recordedAt) {
+}
@@ -0,0 +1,23 @@
+package com.studyai.wellness.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * Read-only projection of a token revocation.
+ */
+public interface RevokedTokenView {
+
+    /**
+     * ID ({@code jti}) of the revoked token.
+     *
+     * @return the token ID
+     */
+    String getTokenId();
+
+    /**
+     * When the revoked token expires.
+     *
+     * @return the expiry
+     */
+    Instant getExpiresAt();
+}
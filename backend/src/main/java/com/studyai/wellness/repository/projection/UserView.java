@@ -0,0 +1,66 @@
+package com.studyai.wellness.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of the displayed columns of a user, with the
+ * preferences flattened.
+ */
+public interface UserView {
+
+    /**
+     * ID of the user.
+     *
+     * @return the user ID
+     */
+    Long getId();
+
+    /**
+     * Email address of the user.
+     *
+     * @return the email address
+     */
+    String getEmail();
+
+    /**
+     * Display name of the user.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * URL of the user's avatar image.
+     *
+     * @return the avatar URL, or null if none is set
+     */
+    String getAvatar();
+
+    /**
+     * Timestamp when the user account was created.
+     *
+     * @return the creation time
+     */
+    LocalDateTime getCreatedAt();
+
+    /**
+     * Whether push notifications are enabled.
+     *
+     * @return the preference, or null if the user has no preferences
+     */
+    Boolean getNotificationsEnabled();
+
+    /**
+     * Whether dark mode is enabled.
+     *
+     * @return the preference, or null if the user has no preferences
+     */
+    Boolean getDarkMode();
+
+    /**
+     * Preferred language code.
+     *
+     * @return the language, or null if the user has no preferences
+     */
+    String getLanguage();
+}
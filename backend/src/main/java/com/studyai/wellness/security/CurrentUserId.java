@@ -0,0 +1,21 @@
+package com.studyai.wellness.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a controller method parameter to the ID of the authenticated user.
+ *
+ * <p>The ID is taken from the verified JWT, so clients cannot act on behalf
+ * of another user by sending a different ID.</p>
+ *
+ * @see CurrentUserIdArgumentResolver
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUserId {
+}
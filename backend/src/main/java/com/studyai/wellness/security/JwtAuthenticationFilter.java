@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,7 +22,8 @@ import java.util.Collections;
  * JWT Authentication Filter for processing JWT tokens in requests.
  *
  * <p>This filter intercepts incoming requests, extracts JWT tokens from
- * the Authorization header, and validates them.</p>
+ * the Authorization header, and validates them. Revoked tokens are
+ * rejected.</p>
  */
 @Component
 @RequiredArgsConstructor
@@ -29,24 +31,28 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-
-    private static final String AUTHORIZATION_HEADER = "Authorization";
-    private static final String BEARER_PREFIX = "Bearer ";
+    private final TokenRevocationStore tokenRevocationStore;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
-            String jwt = extractJwtFromRequest(request);
+            String jwt = tokenProvider.resolveToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+
+            JwtPrincipal principal = StringUtils.hasText(jwt)
+                    ? tokenProvider.authenticate(jwt).orElse(null)
+                    : null;
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String email = tokenProvider.getEmailFromToken(jwt);
-                String userId = tokenProvider.getUserIdFromToken(jwt);
+            if (principal != null && tokenRevocationStore.isRevoked(principal.tokenId())) {
+                log.debug("Rejected revoked token of user: {}", principal.email());
+                principal = null;
+            }
 
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userId,
+                                principal.userId(),
                                 null,
                                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
                         );
@@ -54,7 +60,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.debug("Set authentication for user: {}", email);
+                log.debug("Set authentication for user: {}", principal.email());
             }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
@@ -62,20 +68,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-
-    /**
-     * Extract JWT token from the Authorization header.
-     *
-     * @param request the HTTP request
-     * @return JWT token string or null
-     */
-    private String extractJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
-
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
-            return bearerToken.substring(BEARER_PREFIX.length());
-        }
-
-        return null;
-    }
 }
@@ -0,0 +1,17 @@
+package com.studyai.wellness.security;
+
+import java.time.Instant;
+
+/**
+ * Verified identity carried by a JWT.
+ *
+ * @param tokenId the token ID ({@code jti}), or null for tokens issued without one
+ * @param userId the user's ID
+ * @param email the user's email
+ * @param expiresAt when the token expires
+ * @param refreshToken whether this is a refresh token
+ * @param familyId the refresh token family ID, or null for access tokens
+ */
+public record JwtPrincipal(String tokenId, String userId, String email, Instant expiresAt,
+                           boolean refreshToken, String familyId) {
+}
@@ -1,32 +1,60 @@
 package com.studyai.wellness.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JWT Token Provider for generating and validating JWT tokens.
  *
- * <p>This class handles JWT token creation, validation, and parsing.</p>
+ * <p>This class handles JWT token creation, validation, and parsing. The
+ * signing key and parser are built once; verified tokens are cached until
+ * they expire, so a repeated token skips signature verification.</p>
  */
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
-
-    @Value("${jwt.refresh-expiration}")
-    private long refreshExpiration;
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String REFRESH_TYPE = "refresh";
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<String, JwtPrincipal> principals;
+    private final long jwtExpiration;
+    private final long refreshExpiration;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.expiration}") long jwtExpiration,
+                            @Value("${jwt.refresh-expiration}") long refreshExpiration,
+                            @Value("${wellness.cache.jwt-principals.spec}") String principalCacheSpec,
+                            MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.principals = Caffeine.from(principalCacheSpec)
+                .expireAfter(new PrincipalExpiry())
+                .build();
+        this.jwtExpiration = jwtExpiration;
+        this.refreshExpiration = refreshExpiration;
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "jwtPrincipals");
+    }
 
     /**
      * Generate a JWT access token for a user.
@@ -40,11 +68,12 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
                 .claim("userId", userId)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -53,22 +82,82 @@ public class JwtTokenProvider {
      *
      * @param email the user's email
      * @param userId the user's ID
+     * @param familyId the ID of the token family
+     * @param tokenId the ID of the token
      * @return refresh token string
      */
-    public String generateRefreshToken(String email, String userId) {
+    public String generateRefreshToken(String email, String userId, String familyId, String tokenId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshExpiration);
 
         return Jwts.builder()
+                .id(tokenId)
                 .subject(email)
                 .claim("userId", userId)
-                .claim("type", "refresh")
+                .claim("type", REFRESH_TYPE)
+                .claim("fid", familyId)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verify an access token and return its principal, from the cache when
+     * the same token was verified before.
+     *
+     * @param token the JWT token
+     * @return the principal, or empty if the token is invalid, expired or a refresh token
+     */
+    public Optional<JwtPrincipal> authenticate(String token) {
+        try {
+            return Optional.of(principals.get(token, this::parse))
+                    .filter(principal -> !principal.refreshToken());
+        } catch (SecurityException ex) {
+            log.error("Invalid JWT signature");
+        } catch (MalformedJwtException ex) {
+            log.error("Invalid JWT token");
+        } catch (ExpiredJwtException ex) {
+            log.error("Expired JWT token");
+        } catch (UnsupportedJwtException ex) {
+            log.error("Unsupported JWT token");
+        } catch (IllegalArgumentException ex) {
+            log.error("JWT claims string is empty");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Verify a token and read its principal, bypassing the cache.
+     *
+     * @param token the JWT token
+     * @return the principal
+     * @throws JwtException if the token is invalid or expired
+     */
+    public JwtPrincipal parse(String token) {
+        Claims claims = parseClaims(token);
+        return new JwtPrincipal(
+                claims.getId(),
+                claims.get("userId", String.class),
+                claims.getSubject(),
+                claims.getExpiration().toInstant(),
+                REFRESH_TYPE.equals(claims.get("type", String.class)),
+                claims.get("fid", String.class));
+    }
+
+    /**
+     * Extract the JWT token from an Authorization header value.
+     *
+     * @param authorizationHeader the header value, may be null
+     * @return JWT token string or null
+     */
+    public String resolveToken(String authorizationHeader) {
+        if (StringUtils.hasText(authorizationHeader) && authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return authorizationHeader.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+
     /**
      * Get the email from JWT token.
      *
@@ -76,13 +165,7 @@ public class JwtTokenProvider {
      * @return email address
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
     }
 
     /**
@@ -92,13 +175,7 @@ public class JwtTokenProvider {
      * @return user ID as String
      */
     public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("userId", String.class);
+        return parseClaims(token).get("userId", String.class);
     }
 
     /**
@@ -108,33 +185,31 @@ public class JwtTokenProvider {
      * @return true if valid, false otherwise
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException ex) {
-            log.error("Invalid JWT signature");
-        } catch (MalformedJwtException ex) {
-            log.error("Invalid JWT token");
-        } catch (ExpiredJwtException ex) {
-            log.error("Expired JWT token");
-        } catch (UnsupportedJwtException ex) {
-            log.error("Unsupported JWT token");
-        } catch (IllegalArgumentException ex) {
-            log.error("JWT claims string is empty");
-        }
-        return false;
+        return authenticate(token).isPresent();
+    }
+
+    private Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
-     * Get the signing key for JWT tokens.
-     *
-     * @return SecretKey
+     * Expires cached principals together with their token.
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static final class PrincipalExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String token, JwtPrincipal principal, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
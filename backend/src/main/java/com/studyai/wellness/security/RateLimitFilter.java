@@ -0,0 +1,148 @@
+package com.studyai.wellness.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studyai.wellness.config.RateLimitProperties;
+import com.studyai.wellness.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiting filter applying a token bucket per client and route group.
+ *
+ * <p>Runs after {@link JwtAuthenticationFilter}, so authenticated requests
+ * are limited per user and anonymous ones per client IP. Rejected requests
+ * get {@code 429 Too Many Requests} with a {@code Retry-After} header.</p>
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<String, Counter> rejections = new HashMap<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(idleTimeout(properties))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rateLimitBuckets");
+
+        for (RateLimitProperties.Group group : properties.getGroups()) {
+            rejections.put(group.getName(), Counter.builder("http.ratelimit.rejected")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("group", group.getName())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitProperties.Group group = findGroup(urlPathHelper.getPathWithinApplication(request));
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = group.getName() + ":" + resolveClient(group, request);
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key,
+                k -> new TokenBucket(group.getCapacity(), group.getRefillPerMinute(), now));
+
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejections.get(group.getName()).increment();
+        log.debug("Rate limited {} request to {}", key, request.getRequestURI());
+        reject(response, waitNanos);
+    }
+
+    private RateLimitProperties.Group findGroup(String path) {
+        for (RateLimitProperties.Group group : properties.getGroups()) {
+            for (String pattern : group.getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String resolveClient(RateLimitProperties.Group group, HttpServletRequest request) {
+        if (group.getKey() == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message("Rate limit exceeded, please retry later")
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * A bucket idle for longer than its full refill time is equivalent to a new one.
+     */
+    private static Duration idleTimeout(RateLimitProperties properties) {
+        double minutes = properties.getGroups().stream()
+                .mapToDouble(group -> group.getCapacity() / group.getRefillPerMinute())
+                .max()
+                .orElse(1.0);
+        return Duration.ofSeconds((long) Math.ceil(minutes * 60) + 1);
+    }
+}
@@ -1,6 +1,12 @@
 package com.studyai.wellness.security;
 
+import com.studyai.wellness.config.RateLimitProperties;
+import com.studyai.wellness.controller.NotificationController;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,7 +17,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -25,15 +30,17 @@ import java.util.List;
  * Security configuration for the application.
  *
  * <p>This class configures Spring Security, including JWT authentication,
- * CORS, and endpoint security rules.</p>
+ * rate limiting, CORS, and endpoint security rules.</p>
  */
 @Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
 @EnableWebSecurity
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     /**
      * Configure the security filter chain.
@@ -51,11 +58,14 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // Completes event streams whose initial request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         // Allow H2 console frames
         http.headers(headers -> headers.frameOptions(frame -> frame.sameOrigin()));
@@ -75,6 +85,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        configuration.setExposedHeaders(List.of(NotificationController.NEXT_CURSOR_HEADER));
         configuration.setAllowCredentials(false);
         configuration.setMaxAge(3600L);
 
@@ -87,11 +98,25 @@ public class SecurityConfig {
     /**
      * Configure password encoder.
      *
+     * <p>BCrypt runs on a dedicated pool so login bursts cannot take over
+     * request threads. Stored hashes weaker than the configured strength are
+     * upgraded on the next successful login.</p>
+     *
+     * @param strength BCrypt log rounds
+     * @param threads size of the hashing pool, 0 for one per CPU
+     * @param queueCapacity hashing requests allowed to wait for a thread
+     * @param meterRegistry registry for hashing metrics
      * @return PasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${wellness.security.password.bcrypt-strength}") int strength,
+            @Value("${wellness.security.password.hashing-threads}") int threads,
+            @Value("${wellness.security.password.queue-capacity}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength),
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                queueCapacity, meterRegistry);
     }
 
     /**
@@ -0,0 +1,43 @@
+package com.studyai.wellness.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ *
+ * <p>Implemented as the equivalent generic cell rate algorithm: the whole
+ * state is the theoretical arrival time of the next request, advanced by
+ * compare-and-set, so concurrent requests never block each other.</p>
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int capacity, double refillPerMinute, long nowNanos) {
+        this.emissionIntervalNanos = (long) (60_000_000_000L / refillPerMinute);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1L);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Take one token if available.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise nanoseconds until one is available
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long arrival = Math.max(current, nowNanos);
+            long wait = arrival - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
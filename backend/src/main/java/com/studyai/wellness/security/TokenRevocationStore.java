@@ -0,0 +1,225 @@
+package com.studyai.wellness.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.studyai.wellness.entity.RevokedToken;
+import com.studyai.wellness.repository.RevokedTokenRepository;
+import com.studyai.wellness.repository.projection.RevokedTokenView;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Store of revoked JWT IDs ({@code jti}), checked on every authenticated request.
+ *
+ * <p>Revocations are persisted in {@code revoked_tokens} and held in memory
+ * until the token would have expired, so lookups never touch the database.
+ * With {@code wellness.security.revocation.bloom-filter.enabled} only a Bloom
+ * filter and a bounded cache are kept in memory; possible hits are confirmed
+ * in the database.</p>
+ */
+@Component
+@Slf4j
+public class TokenRevocationStore implements SmartInitializingSingleton {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Cache<String, Instant> revoked;
+    private final boolean bloomFilterEnabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Object filterLock = new Object();
+
+    private volatile BloomFilter bloomFilter;
+    private BloomFilter nextBloomFilter;
+
+    public TokenRevocationStore(RevokedTokenRepository revokedTokenRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${wellness.security.revocation.bloom-filter.enabled}") boolean bloomFilterEnabled,
+                                @Value("${wellness.security.revocation.bloom-filter.expected-insertions}") long expectedInsertions,
+                                @Value("${wellness.security.revocation.bloom-filter.false-positive-rate}") double falsePositiveRate,
+                                @Value("${wellness.security.revocation.bloom-filter.cache-size}") long cacheSize) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.bloomFilterEnabled = bloomFilterEnabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        // Without the Bloom filter the cache is the revocation set and must not drop entries
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (bloomFilterEnabled) {
+            builder.maximumSize(cacheSize);
+            this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+        this.revoked = builder.expireAfter(new UntilTokenExpiry()).build();
+        CaffeineCacheMetrics.monitor(meterRegistry, revoked, "revokedTokens");
+    }
+
+    /**
+     * Load the revocations of unexpired tokens before requests are served.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        long loaded = load();
+        log.info("Loaded {} token revocations", loaded);
+    }
+
+    /**
+     * Revoke a token until it expires.
+     *
+     * <p>The revocation is held in memory once the surrounding transaction
+     * commits, so a rebuild of the Bloom filter that cannot see the row yet
+     * never drops it.</p>
+     *
+     * @param tokenId the token ID ({@code jti})
+     * @param expiresAt when the token expires
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .build());
+        afterCommit(() -> remember(tokenId, expiresAt));
+    }
+
+    /**
+     * Check whether a token has been revoked.
+     *
+     * @param tokenId the token ID ({@code jti})
+     * @return true if the token was revoked
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        if (revoked.getIfPresent(tokenId) != null) {
+            return true;
+        }
+        if (!bloomFilterEnabled || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedTokenRepository.findById(tokenId)
+                .filter(token -> token.getExpiresAt().isAfter(Instant.now()))
+                .map(token -> {
+                    revoked.put(tokenId, token.getExpiresAt());
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Delete expired revocations and rebuild the Bloom filter without them.
+     */
+    @Scheduled(fixedDelayString = "${wellness.security.revocation.purge-interval}",
+            initialDelayString = "${wellness.security.revocation.purge-interval}")
+    public void purgeExpired() {
+        Integer deleted = transactionTemplate.execute(status -> revokedTokenRepository.deleteExpired(Instant.now()));
+        log.debug("Purged {} expired token revocations", deleted);
+
+        if (bloomFilterEnabled) {
+            load();
+        }
+    }
+
+    private long load() {
+        // Revocations made while loading go to both filters, so none are lost in the swap
+        BloomFilter next = null;
+        if (bloomFilterEnabled) {
+            next = new BloomFilter(expectedInsertions, falsePositiveRate);
+            synchronized (filterLock) {
+                nextBloomFilter = next;
+            }
+        }
+
+        BloomFilter filling = next;
+        AtomicLong loaded = new AtomicLong();
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<RevokedTokenView> tokens = revokedTokenRepository.streamByExpiresAtAfter(Instant.now())) {
+                tokens.forEach(token -> {
+                    if (filling != null) {
+                        filling.put(token.getTokenId());
+                    } else {
+                        revoked.put(token.getTokenId(), token.getExpiresAt());
+                    }
+                    loaded.incrementAndGet();
+                });
+            }
+        });
+
+        if (next != null) {
+            synchronized (filterLock) {
+                bloomFilter = next;
+                nextBloomFilter = null;
+            }
+        }
+        return loaded.get();
+    }
+
+    private void remember(String tokenId, Instant expiresAt) {
+        revoked.put(tokenId, expiresAt);
+        if (bloomFilterEnabled) {
+            // Under the lock a rebuild cannot swap filters between the two puts
+            synchronized (filterLock) {
+                if (nextBloomFilter != null) {
+                    nextBloomFilter.put(tokenId);
+                }
+                bloomFilter.put(tokenId);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Keeps each revocation until its token expires.
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, Instant> {
+
+        @Override
+        public long expireAfterCreate(String tokenId, Instant expiresAt, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenId, Instant expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenId, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenId, Instant expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -3,8 +3,11 @@ package com.studyai.wellness.service;
 import com.studyai.wellness.dto.*;
 import com.studyai.wellness.entity.Notification;
 import com.studyai.wellness.entity.User;
+import com.studyai.wellness.exception.InvalidTokenException;
 import com.studyai.wellness.repository.UserRepository;
+import com.studyai.wellness.security.JwtPrincipal;
 import com.studyai.wellness.security.JwtTokenProvider;
+import com.studyai.wellness.security.TokenRevocationStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -30,6 +33,8 @@ public class AuthenticationService {
     private final JwtTokenProvider tokenProvider;
     private final AuthenticationManager authenticationManager;
     private final NotificationService notificationService;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * Authenticate a user with email and password.
@@ -60,7 +65,7 @@ public class AuthenticationService {
 
         // Generate JWT tokens
         String token = tokenProvider.generateToken(user.getEmail(), user.getId().toString());
-        String refreshToken = tokenProvider.generateRefreshToken(user.getEmail(), user.getId().toString());
+        String refreshToken = refreshTokenService.issue(user);
 
         // Create welcome notification for new logins
         if (user.getCreatedAt().isEqual(user.getLastLoginAt()) ||
@@ -77,6 +82,33 @@ public class AuthenticationService {
                 .build();
     }
 
+    /**
+     * Exchange a refresh token for a new access token and refresh token.
+     *
+     * <p>No password verification is needed. The presented refresh token is
+     * rotated out, and presenting it again revokes its whole family.</p>
+     *
+     * @param request the refresh request containing the refresh token
+     * @return LoginResponseDto containing user info and the new JWT tokens
+     * @throws InvalidTokenException if the refresh token is invalid, replaced or revoked
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public LoginResponseDto refresh(RefreshTokenRequestDto request) {
+        JwtPrincipal principal = refreshTokenService.verify(request.getRefreshToken());
+        String refreshToken = refreshTokenService.rotate(principal);
+
+        User user = userRepository.findById(Long.valueOf(principal.userId()))
+                .orElseThrow(() -> new InvalidTokenException("User not found"));
+
+        log.debug("Refreshed tokens for user: {}", user.getId());
+
+        return LoginResponseDto.builder()
+                .user(mapToUserDto(user))
+                .token(tokenProvider.generateToken(user.getEmail(), user.getId().toString()))
+                .refreshToken(refreshToken)
+                .build();
+    }
+
     /**
      * Handle forgot password request.
      *
@@ -106,17 +138,30 @@ public class AuthenticationService {
     /**
      * Logout the current user.
      *
-     * <p>In a stateless JWT setup, logout is handled on the client side
-     * by removing the token. This method logs the logout event.</p>
+     * <p>The access token is revoked until it expires, so it is rejected
+     * even if the client keeps it; a refresh token, if given, is revoked with
+     * its family. Missing or invalid tokens are ignored.</p>
      *
-     * @param userId the ID of the user logging out
+     * @param authorizationHeader the Authorization header carrying the access token
+     * @param refreshToken the refresh token to revoke with its family, may be null
      */
-    public void logout(Long userId) {
-        log.info("User logged out: {}", userId);
-        // In production, you might want to:
-        // 1. Add the token to a blacklist (if using token invalidation)
-        // 2. Log the logout event
-        // 3. Update user statistics
+    @Transactional
+    public void logout(String authorizationHeader, String refreshToken) {
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken);
+        }
+
+        String token = tokenProvider.resolveToken(authorizationHeader);
+        if (token == null) {
+            return;
+        }
+
+        tokenProvider.authenticate(token)
+                .filter(principal -> principal.tokenId() != null)
+                .ifPresent(principal -> {
+                    tokenRevocationStore.revoke(principal.tokenId(), principal.expiresAt());
+                    log.info("User logged out: {}", principal.userId());
+                });
     }
 
     /**
@@ -0,0 +1,121 @@
+package com.studyai.wellness.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs independent dashboard sections concurrently on virtual threads.
+ *
+ * <p>Only created when {@code wellness.dashboard.parallel.enabled} is set,
+ * which requires a Java 21 runtime. Each section runs on its own virtual
+ * thread and therefore in its own transaction with its own connection. At
+ * most {@code wellness.dashboard.parallel.max-concurrent-sections} sections
+ * run at once across all requests; further sections wait for a slot on their
+ * own thread, never longer than the deadline, so submitting never blocks the
+ * request. A section that misses the deadline is interrupted; a virtual thread
+ * interrupted while blocked on a socket closes it, so a query still running
+ * is abandoned and the pool replaces its connection.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "wellness.dashboard.parallel.enabled", havingValue = "true")
+@Slf4j
+public class DashboardFanOut {
+
+    private final SimpleAsyncTaskExecutor executor;
+    private final Semaphore slots;
+    private final Duration deadline;
+
+    public DashboardFanOut(@Value("${wellness.dashboard.parallel.deadline}") Duration deadline,
+                           @Value("${wellness.dashboard.parallel.max-concurrent-sections}") int maxConcurrentSections) {
+        this.executor = new SimpleAsyncTaskExecutor("dashboard-");
+        this.executor.setVirtualThreads(true);
+        this.slots = new Semaphore(maxConcurrentSections);
+        this.deadline = deadline;
+    }
+
+    /**
+     * Start a section on a new virtual thread, which waits for a free slot
+     * until the deadline if the concurrency limit is reached.
+     *
+     * @param section the section to load
+     * @param deadlineNanos the deadline from {@link #deadlineFromNow()}
+     * @param <T> the section type
+     * @return future of the section; cancelling it interrupts the section
+     */
+    public <T> Future<T> submit(Callable<T> section, long deadlineNanos) {
+        // A FutureTask, unlike submitCompletable's future, interrupts the section on cancel
+        return executor.submit(() -> {
+            if (!slots.tryAcquire(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("No free section slot before the deadline");
+            }
+            try {
+                return section.call();
+            } finally {
+                slots.release();
+            }
+        });
+    }
+
+    /**
+     * Compute the deadline for sections started now.
+     *
+     * @return deadline in {@link System#nanoTime()} units
+     */
+    public long deadlineFromNow() {
+        return System.nanoTime() + deadline.toNanos();
+    }
+
+    /**
+     * Wait for a section until the shared deadline.
+     *
+     * @param future the section future
+     * @param deadlineNanos the deadline from {@link #deadlineFromNow()}
+     * @param name the section name, for logging
+     * @param <T> the section type
+     * @return the section, or null if it missed the deadline
+     */
+    public <T> T await(Future<T> future, long deadlineNanos, String name) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            log.warn("Dashboard section '{}' missed the {} ms deadline", name, deadline.toMillis());
+            future.cancel(true);
+            return null;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof TimeoutException) {
+                log.warn("Dashboard section '{}' found no free slot within the {} ms deadline",
+                        name, deadline.toMillis());
+                return null;
+            }
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Failed to load dashboard section: " + name, ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading dashboard", ex);
+        }
+    }
+
+    /**
+     * Cancel sections that are still running, e.g. after another section failed.
+     *
+     * @param futures the section futures; completed ones are left as they are
+     */
+    public void cancelAll(Future<?>... futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+}
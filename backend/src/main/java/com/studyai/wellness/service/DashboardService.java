@@ -1,19 +1,21 @@
 package com.studyai.wellness.service;
 
+import com.studyai.wellness.config.CacheConfig;
 import com.studyai.wellness.dto.*;
 import com.studyai.wellness.entity.*;
 import com.studyai.wellness.repository.*;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import com.studyai.wellness.repository.projection.UserView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
 
 /**
  * Service class for handling dashboard operations.
@@ -27,137 +29,127 @@ import java.util.List;
 public class DashboardService {
 
     private final UserRepository userRepository;
-    private final HabitRepository habitRepository;
     private final MetricRepository metricRepository;
+    private final MetricDtoMapper metricDtoMapper;
+    private final HabitService habitService;
+    private final WeeklyProgressService weeklyProgressService;
+    private final ObjectProvider<DashboardFanOut> dashboardFanOut;
 
     /**
      * Get dashboard data for a specific user.
      *
+     * <p>Results are cached per user until the user's habits, metrics or
+     * preferences change, or the cache entry expires. Partial results are
+     * not cached.</p>
+     *
      * @param userId the ID of the user
      * @return DashboardDto containing all dashboard information
      */
-    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD_CACHE, key = "#userId",
+            unless = "!#result.staleSections.isEmpty()")
     public DashboardDto getDashboard(Long userId) {
         log.info("Fetching dashboard for user: {}", userId);
 
-        User user = userRepository.findById(userId)
+        DashboardFanOut fanOut = dashboardFanOut.getIfAvailable();
+        return fanOut != null ? loadInParallel(userId, fanOut) : loadSequentially(userId);
+    }
+
+    /**
+     * Load the dashboard sections one after another.
+     *
+     * @param userId the ID of the user
+     * @return DashboardDto
+     */
+    private DashboardDto loadSequentially(Long userId) {
+        UserView user = userRepository.findViewById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        List<Metric> metrics = metricRepository.findLatestMetricsByUserId(userId);
-        List<Habit> habits = habitRepository.findByUserIdAndActiveTrueOrderByDisplayOrderAsc(userId);
-        WeeklyProgress weeklyProgress = generateWeeklyProgress(user);
+        List<MetricPoint> metrics = metricRepository
+                .findLatestMetricsByUserId(userId, MetricDtoMapper.SAMPLES_PER_TYPE);
+        LocalDate today = LocalDate.now();
+        List<HabitDto> habits = habitService.getActiveHabits(userId, today);
+        WeeklyProgress weeklyProgress = weeklyProgressService
+                .getWeeklyProgress(userId, habits.size(), today);
 
         return DashboardDto.builder()
                 .user(mapToUserDto(user))
-                .metrics(mapToMetricDtos(metrics))
-                .habits(mapToHabitDtos(habits))
+                .metrics(metricDtoMapper.toLatestDtos(metrics))
+                .habits(habits)
                 .weeklyProgress(mapToWeeklyProgressDto(weeklyProgress))
                 .build();
     }
 
     /**
-     * Generate weekly progress data for the user.
+     * Load the dashboard sections concurrently and join them with a deadline.
      *
-     * @param user the user entity
-     * @return WeeklyProgress entity
+     * <p>Sections that miss the deadline are left empty and listed in
+     * {@code staleSections}; the remaining sections are still returned.</p>
+     *
+     * @param userId the ID of the user
+     * @param fanOut the executor for the sections
+     * @return DashboardDto, possibly partial
      */
-    private WeeklyProgress generateWeeklyProgress(User user) {
+    private DashboardDto loadInParallel(Long userId, DashboardFanOut fanOut) {
         LocalDate today = LocalDate.now();
-        LocalDate startOfWeek = today.with(DayOfWeek.MONDAY);
-
-        List<DayProgress> days = new ArrayList<>();
-        String[] dayNames = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
-
-        for (int i = 0; i < 7; i++) {
-            LocalDate date = startOfWeek.plusDays(i);
-            boolean isCompleted = calculateDayCompletion(user, date);
-
-            DayProgress dayProgress = DayProgress.builder()
-                    .day(dayNames[i])
-                    .date(date)
-                    .value(isCompleted ? 1.0 : 0.0)
-                    .completed(isCompleted)
-                    .weeklyProgress(null) // Not persisted, set to null
+        long deadline = fanOut.deadlineFromNow();
+
+        Future<UserDto> user = fanOut.submit(() -> mapToUserDto(userRepository.findViewById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"))), deadline);
+        Future<List<MetricDto>> metrics = fanOut.submit(() -> metricDtoMapper.toLatestDtos(
+                metricRepository.findLatestMetricsByUserId(userId, MetricDtoMapper.SAMPLES_PER_TYPE)), deadline);
+        Future<List<HabitDto>> habits = fanOut.submit(
+                () -> habitService.getActiveHabits(userId, today), deadline);
+        Future<WeeklyProgressDto> weeklyProgress = fanOut.submit(
+                () -> mapToWeeklyProgressDto(weeklyProgressService.getWeeklyProgress(userId, today)), deadline);
+
+        try {
+            List<String> staleSections = new ArrayList<>();
+            DashboardDto dashboard = DashboardDto.builder()
+                    .user(await(fanOut, user, deadline, "user", staleSections))
+                    .metrics(await(fanOut, metrics, deadline, "metrics", staleSections))
+                    .habits(await(fanOut, habits, deadline, "habits", staleSections))
+                    .weeklyProgress(await(fanOut, weeklyProgress, deadline, "weeklyProgress", staleSections))
                     .build();
-
-            days.add(dayProgress);
+            dashboard.setStaleSections(staleSections);
+            return dashboard;
+        } finally {
+            // Sections still running when another one failed must not keep their connections
+            fanOut.cancelAll(user, metrics, habits, weeklyProgress);
         }
-
-        return WeeklyProgress.builder()
-                .user(user)
-                .weekStartDate(startOfWeek)
-                .days(days)
-                .build();
     }
 
-    /**
-     * Calculate completion status for a specific day.
-     *
-     * @param user the user entity
-     * @param date the date to check
-     * @return true if the day's goals are completed
-     */
-    private boolean calculateDayCompletion(User user, LocalDate date) {
-        // Simple logic: if more than 50% of habits are completed
-        List<Habit> habits = habitRepository.findByUserIdAndActiveTrue(user.getId());
-        if (habits.isEmpty()) {
-            return false;
+    private <T> T await(DashboardFanOut fanOut, Future<T> section, long deadline,
+                        String name, List<String> staleSections) {
+        T result = fanOut.await(section, deadline, name);
+        if (result == null) {
+            staleSections.add(name);
         }
-
-        long completedCount = habits.stream()
-                .filter(Habit::getCompleted)
-                .count();
-
-        return completedCount > habits.size() / 2;
+        return result;
     }
 
-    private UserDto mapToUserDto(User user) {
+    private UserDto mapToUserDto(UserView user) {
         return UserDto.builder()
                 .id(user.getId().toString())
                 .email(user.getEmail())
                 .name(user.getName())
                 .avatar(user.getAvatar())
                 .createdAt(user.getCreatedAt())
-                .preferences(mapToPreferencesDto(user.getPreferences()))
+                .preferences(mapToPreferencesDto(user))
                 .build();
     }
 
-    private UserPreferencesDto mapToPreferencesDto(com.studyai.wellness.entity.UserPreferences preferences) {
-        if (preferences == null) {
+    private UserPreferencesDto mapToPreferencesDto(UserView user) {
+        // An embedded value with all columns null is loaded as no preferences
+        if (user.getNotificationsEnabled() == null && user.getDarkMode() == null && user.getLanguage() == null) {
             return UserPreferencesDto.builder().build();
         }
         return UserPreferencesDto.builder()
-                .notificationsEnabled(preferences.getNotificationsEnabled())
-                .darkMode(preferences.getDarkMode())
-                .language(preferences.getLanguage())
+                .notificationsEnabled(user.getNotificationsEnabled())
+                .darkMode(user.getDarkMode())
+                .language(user.getLanguage())
                 .build();
     }
 
-    private List<MetricDto> mapToMetricDtos(List<Metric> metrics) {
-        return metrics.stream()
-                .map(m -> MetricDto.builder()
-                        .id(m.getId().toString())
-                        .title(m.getTitle())
-                        .value(m.getValue())
-                        .subtitle(m.getSubtitle())
-                        .trend(m.getTrend())
-                        .color(m.getColor())
-                        .build())
-                .toList();
-    }
-
-    private List<HabitDto> mapToHabitDtos(List<Habit> habits) {
-        return habits.stream()
-                .map(h -> HabitDto.builder()
-                        .id(h.getId().toString())
-                        .name(h.getName())
-                        .icon(h.getIcon())
-                        .completed(h.getCompleted())
-                        .streak(h.getStreak())
-                        .build())
-                .toList();
-    }
-
     private WeeklyProgressDto mapToWeeklyProgressDto(WeeklyProgress weeklyProgress) {
         List<DayProgressDto> dayDtos = weeklyProgress.getDays().stream()
                 .map(d -> DayProgressDto.builder()
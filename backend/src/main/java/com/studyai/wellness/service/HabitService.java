@@ -0,0 +1,180 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.config.CacheConfig;
+import com.studyai.wellness.dto.HabitDto;
+import com.studyai.wellness.entity.HabitCheckIn;
+import com.studyai.wellness.entity.User;
+import com.studyai.wellness.repository.HabitCheckInRepository;
+import com.studyai.wellness.repository.HabitRepository;
+import com.studyai.wellness.repository.UserRepository;
+import com.studyai.wellness.repository.projection.HabitCheckInDay;
+import com.studyai.wellness.repository.projection.HabitView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service class for handling habit operations.
+ *
+ * <p>This service records habit check-ins and derives completion status
+ * and streaks from the check-in log.</p>
+ */
+@Service
+@Slf4j
+public class HabitService {
+
+    /**
+     * Number of days loaded at once when computing streaks.
+     */
+    private static final int STREAK_WINDOW_DAYS = 90;
+
+    private final HabitRepository habitRepository;
+    private final HabitCheckInRepository habitCheckInRepository;
+    private final UserRepository userRepository;
+    private final StatsSnapshotStore statsSnapshotStore;
+    private final TransactionTemplate transactionTemplate;
+
+    public HabitService(HabitRepository habitRepository,
+                        HabitCheckInRepository habitCheckInRepository,
+                        UserRepository userRepository,
+                        StatsSnapshotStore statsSnapshotStore,
+                        PlatformTransactionManager transactionManager) {
+        this.habitRepository = habitRepository;
+        this.habitCheckInRepository = habitCheckInRepository;
+        this.userRepository = userRepository;
+        this.statsSnapshotStore = statsSnapshotStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Get the active habits of a user with today's status and current streaks.
+     *
+     * @param userId the ID of the user
+     * @param today the reference day
+     * @return list of HabitDto in display order
+     */
+    @Transactional(readOnly = true)
+    public List<HabitDto> getActiveHabits(Long userId, LocalDate today) {
+        List<HabitView> habits = habitRepository.findViewsByUserIdAndActiveTrueOrderByDisplayOrderAsc(userId);
+        if (habits.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate windowStart = today.minusDays(STREAK_WINDOW_DAYS - 1);
+        Map<Long, Set<LocalDate>> daysByHabit = new HashMap<>();
+        for (HabitCheckInDay day : habitCheckInRepository.findCheckInDays(userId, windowStart, today)) {
+            daysByHabit.computeIfAbsent(day.getHabitId(), id -> new HashSet<>()).add(day.getDate());
+        }
+
+        return habits.stream()
+                .map(h -> {
+                    Set<LocalDate> days = daysByHabit.getOrDefault(h.getId(), Set.of());
+                    return mapToHabitDto(h, days.contains(today),
+                            calculateStreak(userId, h.getId(), days, windowStart, today));
+                })
+                .toList();
+    }
+
+    /**
+     * Record that a habit was completed today.
+     *
+     * <p>Check-ins are append-only; checking in twice on the same day is a
+     * no-op, also when both requests race and one of them hits the unique
+     * constraint. The insert runs in its own transaction so that a
+     * constraint violation only rolls back the insert.</p>
+     *
+     * @param userId the ID of the user
+     * @param habitId the ID of the habit
+     * @return the updated HabitDto
+     */
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_CACHE, key = "#userId")
+    public HabitDto checkIn(Long userId, Long habitId) {
+        log.info("Checking in habit {} for user: {}", habitId, userId);
+
+        HabitView habit = habitRepository.findViewByIdAndUserIdAndActiveTrue(habitId, userId)
+                .orElseThrow(() -> new RuntimeException("Habit not found"));
+
+        LocalDate today = LocalDate.now();
+        if (!habitCheckInRepository.existsByUserIdAndHabitIdAndCheckInDate(userId, habitId, today)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    User user = userRepository.getReferenceById(userId);
+                    habitCheckInRepository.saveAndFlush(HabitCheckIn.builder()
+                            .user(user)
+                            .habit(habitRepository.getReferenceById(habitId))
+                            .checkInDate(today)
+                            .build());
+                    statsSnapshotStore.recordCheckIn(userId, today);
+                });
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent request checked in first
+                log.debug("Habit {} already checked in today for user: {}", habitId, userId);
+            }
+        }
+
+        LocalDate windowStart = today.minusDays(STREAK_WINDOW_DAYS - 1);
+        Set<LocalDate> days = new HashSet<>(
+                habitCheckInRepository.findCheckInDates(userId, habitId, windowStart, today));
+
+        return mapToHabitDto(habit, true, calculateStreak(userId, habitId, days, windowStart, today));
+    }
+
+    /**
+     * Count consecutive completed days ending today, or yesterday if the
+     * habit has not been completed yet today.
+     *
+     * <p>Streaks that reach back past the loaded window are extended with
+     * further single-habit range scans.</p>
+     *
+     * @param userId the ID of the user
+     * @param habitId the ID of the habit
+     * @param days check-in days known from {@code windowStart} to {@code today}
+     * @param windowStart the first day covered by {@code days}
+     * @param today the reference day
+     * @return current streak length in days
+     */
+    private int calculateStreak(Long userId, Long habitId, Set<LocalDate> days,
+                                LocalDate windowStart, LocalDate today) {
+        LocalDate day = days.contains(today) ? today : today.minusDays(1);
+        int streak = 0;
+
+        while (true) {
+            while (!day.isBefore(windowStart) && days.contains(day)) {
+                streak++;
+                day = day.minusDays(1);
+            }
+            if (!day.isBefore(windowStart)) {
+                return streak;
+            }
+
+            // The streak covers the whole window, load the previous one
+            LocalDate windowEnd = windowStart.minusDays(1);
+            windowStart = windowEnd.minusDays(STREAK_WINDOW_DAYS - 1);
+            days = new HashSet<>(habitCheckInRepository.findCheckInDates(userId, habitId, windowStart, windowEnd));
+            if (days.isEmpty()) {
+                return streak;
+            }
+        }
+    }
+
+    private HabitDto mapToHabitDto(HabitView habit, boolean completed, int streak) {
+        return HabitDto.builder()
+                .id(habit.getId().toString())
+                .name(habit.getName())
+                .icon(habit.getIcon())
+                .completed(completed)
+                .streak(streak)
+                .build();
+    }
+}
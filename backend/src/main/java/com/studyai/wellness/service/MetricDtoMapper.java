@@ -0,0 +1,118 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.dto.MetricDto;
+import com.studyai.wellness.entity.Metric.MetricType;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import org.springframework.stereotype.Component;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Mapper producing display-ready {@link MetricDto}s from numeric metric samples.
+ *
+ * <p>Titles, units, goals, colors and trends are derived here so the
+ * stored samples stay purely numeric.</p>
+ */
+@Component
+public class MetricDtoMapper {
+
+    /**
+     * Samples needed per metric type: the latest one and the previous one for the trend.
+     */
+    public static final int SAMPLES_PER_TYPE = 2;
+
+    private static final String WARNING_COLOR = "#F5A623";
+
+    private static final Map<MetricType, Presentation> PRESENTATIONS = new EnumMap<>(Map.of(
+            MetricType.CALORIES_BURNED, new Presentation("Calories Burned", "#,##0", "", 2000.0, null, "#3D8A5A"),
+            MetricType.ACTIVE_MINUTES, new Presentation("Active Minutes", "#,##0", "", 60.0, null, "#5CAD7A"),
+            MetricType.SLEEP_HOURS, new Presentation("Sleep Hours", "0.0", "", null, "hours last night", "#3D8A5A"),
+            MetricType.WATER_INTAKE, new Presentation("Water Intake", "0.#", "L", 2.0, null, "#5CAD7A"),
+            MetricType.STEPS, new Presentation("Steps", "#,##0", "", 10000.0, null, "#3D8A5A")
+    ));
+
+    /**
+     * Map samples to one DTO per metric type, showing the newest sample
+     * and its trend against the previous sample of the same type.
+     *
+     * @param newestFirst samples ordered by recording time, newest first within each type
+     * @return list of MetricDto in metric type order
+     */
+    public List<MetricDto> toLatestDtos(List<MetricPoint> newestFirst) {
+        Map<MetricType, MetricPoint> latest = new EnumMap<>(MetricType.class);
+        Map<MetricType, MetricPoint> previous = new EnumMap<>(MetricType.class);
+
+        for (MetricPoint metric : newestFirst) {
+            if (latest.putIfAbsent(metric.type(), metric) != null) {
+                previous.putIfAbsent(metric.type(), metric);
+            }
+        }
+
+        return latest.values().stream()
+                .map(metric -> toDto(metric, previous.get(metric.type())))
+                .toList();
+    }
+
+    /**
+     * Map a single sample to a DTO.
+     *
+     * @param metric the sample to display
+     * @param previous the previous sample of the same type, or null
+     * @return MetricDto
+     */
+    public MetricDto toDto(MetricPoint metric, MetricPoint previous) {
+        Presentation presentation = PRESENTATIONS.get(metric.type());
+        Long trend = calculateTrend(metric, previous);
+
+        return MetricDto.builder()
+                .id(metric.id().toString())
+                .title(presentation.title())
+                .value(presentation.format(metric.value()))
+                .subtitle(presentation.subtitle())
+                .trend(trend == null ? null : String.format("%+d%%", trend))
+                .color(trend != null && trend < 0 ? WARNING_COLOR : presentation.color())
+                .build();
+    }
+
+    /**
+     * Calculate the percentage change against the previous sample.
+     *
+     * @param metric the current sample
+     * @param previous the previous sample, or null
+     * @return rounded percentage change, or null if it cannot be computed
+     */
+    private Long calculateTrend(MetricPoint metric, MetricPoint previous) {
+        if (previous == null || previous.value() == 0.0) {
+            return null;
+        }
+        return Math.round((metric.value() - previous.value()) / previous.value() * 100);
+    }
+
+    /**
+     * Display settings of a metric type.
+     *
+     * @param title display title
+     * @param pattern number pattern of the value
+     * @param unit unit suffix appended to values
+     * @param goal daily goal, or null if the type has none
+     * @param caption subtitle used when there is no goal
+     * @param color color code for UI display
+     */
+    private record Presentation(String title, String pattern, String unit, Double goal,
+                                String caption, String color) {
+
+        String format(double value) {
+            // DecimalFormat is not thread-safe, create one per call
+            return new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(Locale.US)).format(value) + unit;
+        }
+
+        String subtitle() {
+            return goal != null ? "of " + format(goal) + " goal" : caption;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.repository.MetricRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background compactor rebuilding metric rollups from the samples.
+ *
+ * <p>Runs on the scheduler {@code wellness.metrics.rollups.initial-delay}
+ * after startup and then every {@code wellness.metrics.rollups.compact-interval},
+ * one transaction per user, so startup does not wait for it. This covers samples stored without an upload
+ * and corrects any drift of the incrementally updated rollups.</p>
+ */
+@Component
+@Slf4j
+public class MetricRollupCompactor {
+
+    private final MetricRollupService metricRollupService;
+    private final MetricRepository metricRepository;
+    private final Counter rebuilt;
+
+    public MetricRollupCompactor(MetricRollupService metricRollupService,
+                                 MetricRepository metricRepository,
+                                 MeterRegistry meterRegistry) {
+        this.metricRollupService = metricRollupService;
+        this.metricRepository = metricRepository;
+        this.rebuilt = Counter.builder("metrics.rollups.rebuilt")
+                .description("Metric rollups written by the compactor")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rebuild the rollups of every user with samples.
+     */
+    @Scheduled(fixedDelayString = "${wellness.metrics.rollups.compact-interval}",
+            initialDelayString = "${wellness.metrics.rollups.initial-delay}")
+    public void compact() {
+        int users = 0;
+        for (Long userId : metricRepository.findUserIds()) {
+            try {
+                rebuilt.increment(metricRollupService.rebuild(userId));
+                users++;
+            } catch (RuntimeException ex) {
+                log.error("Failed to rebuild metric rollups for user: {}, retrying on the next run", userId, ex);
+            }
+        }
+        log.debug("Rebuilt metric rollups of {} users", users);
+    }
+}
@@ -0,0 +1,193 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.entity.Metric;
+import com.studyai.wellness.entity.MetricRollup;
+import com.studyai.wellness.repository.MetricBatchRepository.UpsertResult;
+import com.studyai.wellness.repository.MetricRepository;
+import com.studyai.wellness.repository.MetricRollupRepository;
+import com.studyai.wellness.repository.UserRepository;
+import com.studyai.wellness.repository.projection.MetricAggregate;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Hourly, daily and weekly rollups of metric samples, stored in {@code metric_rollups}.
+ *
+ * <p>Uploads merge the aggregates of their new samples into the rollups in
+ * the same transaction. Replaced values are read back from the samples of
+ * their buckets, since minimum and maximum cannot be corrected by a delta.
+ * Samples stored without an upload, such as seed data, are covered by the
+ * next rebuild.</p>
+ *
+ * <p>Uploads and rebuilds of a user lock the user's row first. A rebuild
+ * therefore reads every sample whose upload merged before it, and an upload
+ * waiting for a rebuild merges into the rebuilt rollups afterwards instead of
+ * into rows the rebuild has deleted.</p>
+ */
+@Service
+@Slf4j
+public class MetricRollupService {
+
+    private final MetricRollupRepository metricRollupRepository;
+    private final MetricRepository metricRepository;
+    private final UserRepository userRepository;
+    private final StatsSnapshotStore statsSnapshotStore;
+    private final int batchSize;
+
+    public MetricRollupService(MetricRollupRepository metricRollupRepository,
+                               MetricRepository metricRepository,
+                               UserRepository userRepository,
+                               StatsSnapshotStore statsSnapshotStore,
+                               @Value("${wellness.metrics.rollups.batch-size}") int batchSize) {
+        this.metricRollupRepository = metricRollupRepository;
+        this.metricRepository = metricRepository;
+        this.userRepository = userRepository;
+        this.statsSnapshotStore = statsSnapshotStore;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Aggregate a user's samples per metric type within a time range, reading
+     * the coarsest rollups that exactly cover it.
+     *
+     * @param userId the ID of the user
+     * @param from the start of the range (inclusive), on a full hour
+     * @param to the end of the range (exclusive), on a full hour
+     * @return one aggregate per metric type with samples in the range
+     */
+    @Transactional(readOnly = true)
+    public List<MetricAggregate> aggregateByType(Long userId, LocalDateTime from, LocalDateTime to) {
+        return metricRollupRepository.aggregateByType(userId, MetricRollup.Resolution.coarsest(from, to), from, to);
+    }
+
+    /**
+     * Update the rollups of a user with the outcome of an upsert.
+     *
+     * <p>The caller must hold the lock of {@link UserRepository#lockById}
+     * since before the upsert.</p>
+     *
+     * @param userId the ID of the user
+     * @param result the samples inserted and changed by the upsert
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long userId, UpsertResult result) {
+        if (!result.inserted().isEmpty()) {
+            Map<BucketKey, MetricRollup> rollups = new LinkedHashMap<>();
+            for (MetricPoint sample : result.inserted()) {
+                for (MetricRollup.Resolution resolution : MetricRollup.Resolution.values()) {
+                    BucketKey key = new BucketKey(sample.type(), resolution, resolution.bucketStart(sample.recordedAt()));
+                    MetricRollup rollup = rollups.get(key);
+                    if (rollup == null) {
+                        rollups.put(key, open(userId, key, sample));
+                    } else {
+                        include(rollup, sample);
+                    }
+                }
+            }
+            metricRollupRepository.mergeAll(rollups.values());
+        }
+
+        Set<BucketKey> changed = new LinkedHashSet<>();
+        for (MetricPoint sample : result.changed()) {
+            for (MetricRollup.Resolution resolution : MetricRollup.Resolution.values()) {
+                changed.add(new BucketKey(sample.type(), resolution, resolution.bucketStart(sample.recordedAt())));
+            }
+        }
+        for (BucketKey key : changed) {
+            metricRollupRepository.refresh(userId, key.type(), key.resolution(), key.bucketStart(),
+                    key.resolution().bucketEnd(key.bucketStart()));
+        }
+    }
+
+    /**
+     * Replace all rollups of a user with ones computed from the samples.
+     *
+     * <p>Samples are read from a database cursor in type and time order, so
+     * only the current bucket of each resolution is kept in memory. The
+     * user's statistics snapshots are dropped once the rebuild commits, as
+     * the rebuilt rollups may include samples they have not seen.</p>
+     *
+     * @param userId the ID of the user
+     * @return number of rollups written
+     */
+    @Transactional
+    public int rebuild(Long userId) {
+        userRepository.lockById(userId);
+        metricRollupRepository.deleteByUserId(userId);
+
+        Map<MetricRollup.Resolution, MetricRollup> current = new EnumMap<>(MetricRollup.Resolution.class);
+        List<MetricRollup> pending = new ArrayList<>();
+        int written = 0;
+        try (Stream<MetricPoint> samples = metricRepository.streamByUserId(userId)) {
+            for (Iterator<MetricPoint> it = samples.iterator(); it.hasNext(); ) {
+                MetricPoint sample = it.next();
+                for (MetricRollup.Resolution resolution : MetricRollup.Resolution.values()) {
+                    BucketKey key = new BucketKey(sample.type(), resolution, resolution.bucketStart(sample.recordedAt()));
+                    MetricRollup rollup = current.get(resolution);
+                    if (rollup != null && rollup.getType() == key.type()
+                            && rollup.getBucketStart().equals(key.bucketStart())) {
+                        include(rollup, sample);
+                    } else {
+                        if (rollup != null) {
+                            pending.add(rollup);
+                        }
+                        current.put(resolution, open(userId, key, sample));
+                    }
+                }
+                if (pending.size() >= batchSize) {
+                    metricRollupRepository.insertAll(pending);
+                    written += pending.size();
+                    pending.clear();
+                }
+            }
+        }
+        pending.addAll(current.values());
+        metricRollupRepository.insertAll(pending);
+        statsSnapshotStore.invalidate(userId);
+        return written + pending.size();
+    }
+
+    private static MetricRollup open(Long userId, BucketKey key, MetricPoint sample) {
+        return MetricRollup.builder()
+                .userId(userId)
+                .type(key.type())
+                .resolution(key.resolution())
+                .bucketStart(key.bucketStart())
+                .minValue(sample.value())
+                .maxValue(sample.value())
+                .total(sample.value())
+                .sampleCount(1)
+                .lastValue(sample.value())
+                .lastRecordedAt(sample.recordedAt())
+                .build();
+    }
+
+    private static void include(MetricRollup rollup, MetricPoint sample) {
+        rollup.setMinValue(Math.min(rollup.getMinValue(), sample.value()));
+        rollup.setMaxValue(Math.max(rollup.getMaxValue(), sample.value()));
+        rollup.setTotal(rollup.getTotal() + sample.value());
+        rollup.setSampleCount(rollup.getSampleCount() + 1);
+        if (!sample.recordedAt().isBefore(rollup.getLastRecordedAt())) {
+            rollup.setLastValue(sample.value());
+            rollup.setLastRecordedAt(sample.recordedAt());
+        }
+    }
+
+    private record BucketKey(Metric.MetricType type, MetricRollup.Resolution resolution, LocalDateTime bucketStart) {
+    }
+}
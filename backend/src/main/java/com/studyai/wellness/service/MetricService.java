@@ -0,0 +1,229 @@
+package com.studyai.wellness.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studyai.wellness.config.CacheConfig;
+import com.studyai.wellness.dto.MetricBatchResultDto;
+import com.studyai.wellness.entity.Metric;
+import com.studyai.wellness.export.MetricExportWriter;
+import com.studyai.wellness.repository.MetricBatchRepository.UpsertResult;
+import com.studyai.wellness.repository.MetricRepository;
+import com.studyai.wellness.repository.UserRepository;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Service class for handling metric operations.
+ *
+ * <p>This service ingests metric samples uploaded in bulk, e.g. when a
+ * wearable syncs hours of data at once, and exports a user's full history.</p>
+ */
+@Service
+@Slf4j
+public class MetricService {
+
+    private final MetricRepository metricRepository;
+    private final MetricRollupService metricRollupService;
+    private final UserRepository userRepository;
+    private final StatsSnapshotStore statsSnapshotStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache dashboardCache;
+    private final JsonFactory jsonFactory;
+    private final int batchSize;
+    private final Counter acceptedSamples;
+    private final Counter rejectedSamples;
+
+    public MetricService(MetricRepository metricRepository,
+                         MetricRollupService metricRollupService,
+                         UserRepository userRepository,
+                         StatsSnapshotStore statsSnapshotStore,
+                         PlatformTransactionManager transactionManager,
+                         CacheManager cacheManager,
+                         ObjectMapper objectMapper,
+                         @Value("${wellness.metrics.ingest.batch-size}") int batchSize,
+                         MeterRegistry meterRegistry) {
+        this.metricRepository = metricRepository;
+        this.metricRollupService = metricRollupService;
+        this.userRepository = userRepository;
+        this.statsSnapshotStore = statsSnapshotStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dashboardCache = cacheManager.getCache(CacheConfig.DASHBOARD_CACHE);
+        this.jsonFactory = objectMapper.getFactory();
+        this.batchSize = batchSize;
+        this.acceptedSamples = ingestCounter("accepted", meterRegistry);
+        this.rejectedSamples = ingestCounter("rejected", meterRegistry);
+    }
+
+    /**
+     * Store the metric samples of an upload.
+     *
+     * <p>The body is either a JSON array of samples or newline-delimited
+     * samples, each an object with {@code type}, {@code value} and
+     * {@code recordedAt}. It is parsed incrementally and written in batches
+     * of {@code wellness.metrics.ingest.batch-size}, each in its own
+     * transaction together with the rollups it affects, so memory use does
+     * not grow with the upload. Statistics snapshots are advanced with the
+     * new samples of each batch once it commits. A sample
+     * with the same type and timestamp as an earlier one replaces it, which
+     * makes repeating an upload safe; repeats within the same batch are
+     * collapsed before writing and counted once.</p>
+     *
+     * @param userId the ID of the user
+     * @param body the request body
+     * @return counts of accepted and rejected samples
+     * @throws IOException if the body cannot be read or is not valid JSON;
+     *                     batches before the error stay stored
+     */
+    public MetricBatchResultDto ingest(Long userId, InputStream body) throws IOException {
+        Map<SampleKey, MetricPoint> batch = new LinkedHashMap<>();
+        int accepted = 0;
+        int rejected = 0;
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+
+            while (token != null && token != JsonToken.END_ARRAY) {
+                MetricPoint sample = readSample(parser);
+                if (sample == null) {
+                    rejected++;
+                } else {
+                    // A sample repeated within the batch replaces the earlier one and is counted once
+                    if (batch.put(new SampleKey(sample.type(), sample.recordedAt()), sample) == null) {
+                        accepted++;
+                    }
+                    if (batch.size() == batchSize) {
+                        flush(userId, batch);
+                    }
+                }
+                token = parser.nextToken();
+            }
+            flush(userId, batch);
+        } finally {
+            if (accepted > 0) {
+                dashboardCache.evict(userId);
+            }
+        }
+
+        log.info("Ingested metrics for user: {}, accepted: {}, rejected: {}", userId, accepted, rejected);
+        acceptedSamples.increment(accepted);
+        rejectedSamples.increment(rejected);
+        return MetricBatchResultDto.builder()
+                .accepted(accepted)
+                .rejected(rejected)
+                .build();
+    }
+
+    /**
+     * Write a user's full metric history in the binary export format.
+     *
+     * <p>Samples are read from a database cursor and encoded block by block,
+     * so memory use does not depend on the length of the history.</p>
+     *
+     * @param userId the ID of the user
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    @Transactional(readOnly = true)
+    public void export(Long userId, OutputStream out) throws IOException {
+        MetricExportWriter writer = new MetricExportWriter(out);
+        long count = 0;
+        try (Stream<MetricPoint> samples = metricRepository.streamByUserId(userId)) {
+            for (Iterator<MetricPoint> it = samples.iterator(); it.hasNext(); count++) {
+                MetricPoint sample = it.next();
+                writer.write(sample.type(), sample.recordedAt(), sample.value());
+            }
+        }
+        writer.finish();
+        log.info("Exported {} metrics for user: {}", count, userId);
+    }
+
+    private void flush(Long userId, Map<SampleKey, MetricPoint> batch) {
+        if (!batch.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Serializes overlapping uploads of the user, e.g. a retry racing the original,
+                // between the update and the insert, and with rollup rebuilds
+                userRepository.lockById(userId);
+                UpsertResult result = metricRepository.upsertAll(userId, batch.values());
+                metricRollupService.record(userId, result);
+                // Replaced values cannot be subtracted from the snapshot totals
+                if (result.changed().isEmpty()) {
+                    statsSnapshotStore.recordMetrics(userId, result.inserted());
+                } else {
+                    statsSnapshotStore.invalidate(userId);
+                }
+            });
+            batch.clear();
+        }
+    }
+
+    /**
+     * Read the sample at the current token, leaving the parser on its last token.
+     *
+     * @return the sample, or null if it is not an object or a field is missing or invalid
+     */
+    private MetricPoint readSample(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+
+        String type = null;
+        Double value = null;
+        String recordedAt = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "type" -> type = token == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "value" -> value = token.isNumeric() ? parser.getDoubleValue() : null;
+                case "recordedAt" -> recordedAt = token == JsonToken.VALUE_STRING ? parser.getText() : null;
+                default -> {
+                }
+            }
+            parser.skipChildren();
+        }
+
+        if (type == null || value == null || recordedAt == null || !Double.isFinite(value) || value < 0) {
+            return null;
+        }
+        try {
+            return new MetricPoint(null, Metric.MetricType.valueOf(type), value, LocalDateTime.parse(recordedAt));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    private static Counter ingestCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("metrics.ingest.samples")
+                .description("Metric samples received in batch uploads")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record SampleKey(Metric.MetricType type, LocalDateTime recordedAt) {
+    }
+}
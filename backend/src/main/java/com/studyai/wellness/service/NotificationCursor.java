@@ -0,0 +1,50 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a user's notifications, ordered newest first by creation time and ID.
+ *
+ * <p>Clients receive the cursor as an opaque URL-safe token and send it back
+ * to get the next page.</p>
+ *
+ * @param createdAt creation time of the last notification on the previous page
+ * @param id ID of the last notification on the previous page
+ */
+public record NotificationCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encode the cursor as an opaque token.
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        String value = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @param token the cursor token
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the token is not a valid cursor
+     */
+    public static NotificationCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            return new NotificationCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.valueOf(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.studyai.wellness.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background dispatcher creating notifications queued in the outbox.
+ *
+ * <p>Drains the outbox in batches of {@code wellness.notifications.outbox.batch-size},
+ * each created in one transaction. Entries left by a failed batch or a
+ * restart are picked up on the next run.</p>
+ */
+@Component
+@Slf4j
+public class NotificationOutboxDispatcher {
+
+    private final NotificationService notificationService;
+    private final int batchSize;
+    private final Counter dispatched;
+
+    public NotificationOutboxDispatcher(NotificationService notificationService,
+                                        @Value("${wellness.notifications.outbox.batch-size}") int batchSize,
+                                        MeterRegistry meterRegistry) {
+        this.notificationService = notificationService;
+        this.batchSize = batchSize;
+        this.dispatched = Counter.builder("notifications.outbox.dispatched")
+                .description("Notifications created from the outbox")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Create queued notifications until the outbox is empty.
+     */
+    @Scheduled(fixedDelayString = "${wellness.notifications.outbox.poll-interval}")
+    public void dispatch() {
+        try {
+            int count;
+            do {
+                count = notificationService.dispatchQueued(batchSize);
+                dispatched.increment(count);
+            } while (count == batchSize);
+        } catch (RuntimeException ex) {
+            log.error("Failed to dispatch queued notifications, retrying on the next run", ex);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.dto.NotificationGroupDto;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One page of a user's notifications, grouped by date.
+ */
+@Value
+@Builder
+public class NotificationPage {
+
+    /**
+     * Notifications on this page grouped into Today, Yesterday and Earlier.
+     */
+    List<NotificationGroupDto> groups;
+
+    /**
+     * Cursor for the next page, or null if this is the last page.
+     */
+    String nextCursor;
+}
@@ -3,18 +3,25 @@ package com.studyai.wellness.service;
 import com.studyai.wellness.dto.NotificationDto;
 import com.studyai.wellness.dto.NotificationGroupDto;
 import com.studyai.wellness.entity.Notification;
+import com.studyai.wellness.entity.NotificationOutbox;
 import com.studyai.wellness.entity.User;
+import com.studyai.wellness.exception.InvalidCursorException;
+import com.studyai.wellness.repository.NotificationOutboxRepository;
 import com.studyai.wellness.repository.NotificationRepository;
 import com.studyai.wellness.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service class for handling notification operations.
@@ -28,77 +35,201 @@ import java.util.List;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
     private final UserRepository userRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationStreamHub notificationStreamHub;
 
     /**
-     * Get all notifications for a user, grouped by date.
+     * Page size used when the client does not ask for one.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Largest page size a client can ask for.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Most notifications replayed when a stream resumes; clients that
+     * missed more are told to reload.
+     */
+    public static final int MAX_REPLAY = 100;
+
+    /**
+     * Get a page of notifications for a user, grouped by date.
+     *
+     * <p>Pages are read with a keyset query on the user's notifications in
+     * newest-first order, so each page costs the same regardless of how far
+     * back it is. Groups are computed per page; a group can continue on the
+     * next page.</p>
      *
      * @param userId the ID of the user
-     * @return list of NotificationGroupDto
+     * @param cursor cursor returned with the previous page, or null for the first page
+     * @param pageSize maximum number of notifications, capped at {@link #MAX_PAGE_SIZE}
+     * @return the page of notifications and the cursor of the next one
+     * @throws InvalidCursorException if the cursor cannot be decoded
      */
     @Transactional(readOnly = true)
-    public List<NotificationGroupDto> getNotifications(Long userId) {
+    public NotificationPage getNotifications(Long userId, String cursor, int pageSize) {
         log.info("Fetching notifications for user: {}", userId);
 
-        List<Notification> notifications = notificationRepository
-                .findByUserIdOrderByCreatedAtDesc(userId);
+        int size = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+        // One extra row tells whether there is a next page
+        Limit limit = Limit.of(size + 1);
+        List<Notification> notifications;
+        if (cursor == null) {
+            notifications = notificationRepository.findFirstPage(userId, limit);
+        } else {
+            NotificationCursor after = NotificationCursor.decode(cursor);
+            notifications = notificationRepository.findPageAfter(userId, after.createdAt(), after.id(), limit);
+        }
+
+        String nextCursor = null;
+        if (notifications.size() > size) {
+            notifications = notifications.subList(0, size);
+            Notification last = notifications.get(size - 1);
+            nextCursor = new NotificationCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return NotificationPage.builder()
+                .groups(groupNotificationsByDate(notifications))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Open an event stream of a user's new notifications.
+     *
+     * <p>When resuming after {@code lastEventId}, the notifications created
+     * since are replayed first.</p>
+     *
+     * @param userId the ID of the user
+     * @param lastEventId ID of the last notification the client received, or null
+     * @return the emitter streaming the notifications
+     */
+    public SseEmitter streamNotifications(Long userId, Long lastEventId) {
+        log.info("Opening notification stream for user: {}", userId);
+
+        return notificationStreamHub.subscribe(userId, () -> {
+            if (lastEventId == null) {
+                return List.of();
+            }
+            List<Notification> missed = notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                    userId, lastEventId, Limit.of(MAX_REPLAY + 1));
+            if (missed.size() > MAX_REPLAY) {
+                return null;
+            }
+            return missed.stream().map(this::mapToNotificationDto).toList();
+        });
+    }
 
-        return groupNotificationsByDate(notifications);
+    /**
+     * Get the number of unread notifications of a user.
+     *
+     * @param userId the ID of the user
+     * @return number of unread notifications
+     */
+    public long getUnreadCount(Long userId) {
+        return unreadNotificationCounter.get(userId);
     }
 
     /**
-     * Mark a specific notification as read.
+     * Mark a specific notification of a user as read.
+     *
+     * <p>Ownership is checked by the update itself, so notifications of other
+     * users are reported as not found.</p>
      *
+     * @param userId the ID of the user
      * @param notificationId the ID of the notification
      */
     @Transactional
-    public void markAsRead(Long notificationId) {
-        log.info("Marking notification as read: {}", notificationId);
+    public void markAsRead(Long userId, Long notificationId) {
+        log.info("Marking notification {} as read for user: {}", notificationId, userId);
 
-        Notification notification = notificationRepository.findById(notificationId)
-                .orElseThrow(() -> new RuntimeException("Notification not found"));
-
-        notification.setRead(true);
-        notificationRepository.save(notification);
+        if (notificationRepository.markAsReadByIdAndUserId(notificationId, userId) == 1) {
+            unreadNotificationCounter.add(userId, -1);
+        } else if (!notificationRepository.existsByIdAndUserId(notificationId, userId)) {
+            throw new RuntimeException("Notification not found");
+        }
     }
 
     /**
      * Mark all notifications as read for a user.
      *
+     * <p>Runs as a single UPDATE however many notifications are unread.</p>
+     *
      * @param userId the ID of the user
      */
     @Transactional
     public void markAllAsRead(Long userId) {
-        log.info("Marking all notifications as read for user: {}", userId);
-
-        List<Notification> unreadNotifications = notificationRepository
-                .findByUserIdAndReadFalseOrderByCreatedAtDesc(userId);
-
-        unreadNotifications.forEach(n -> n.setRead(true));
-        notificationRepository.saveAll(unreadNotifications);
+        int updated = notificationRepository.markAllAsReadByUserId(userId);
+        unreadNotificationCounter.add(userId, -updated);
+        log.info("Marked {} notifications as read for user: {}", updated, userId);
     }
 
     /**
-     * Create a new notification for a user.
+     * Queue a new notification for a user.
+     *
+     * <p>The notification is written to the outbox in the caller's
+     * transaction and created by {@link NotificationOutboxDispatcher} after
+     * it commits, so the caller does not wait for counters and streams.</p>
      *
      * @param user the user to receive the notification
      * @param title the notification title
      * @param message the notification message
      * @param type the notification type
-     * @return the created notification
      */
     @Transactional
-    public Notification createNotification(User user, String title, String message,
-                                          Notification.NotificationType type) {
-        Notification notification = Notification.builder()
+    public void createNotification(User user, String title, String message,
+                                   Notification.NotificationType type) {
+        notificationOutboxRepository.save(NotificationOutbox.builder()
                 .user(user)
                 .title(title)
                 .message(message)
                 .type(type)
-                .read(false)
-                .build();
+                .build());
+    }
+
+    /**
+     * Create the oldest queued notifications and remove them from the outbox.
+     *
+     * <p>Both happen in one transaction, so each queued notification is
+     * created exactly once even if dispatching is interrupted. Streams are
+     * notified after commit.</p>
+     *
+     * @param batchSize maximum number of notifications to create
+     * @return number of notifications created
+     */
+    @Transactional
+    public int dispatchQueued(int batchSize) {
+        List<NotificationOutbox> queued = notificationOutboxRepository.findOldestForUpdate(Limit.of(batchSize));
+        if (queued.isEmpty()) {
+            return 0;
+        }
+
+        List<Notification> notifications = queued.stream()
+                .map(entry -> Notification.builder()
+                        .user(entry.getUser())
+                        .title(entry.getTitle())
+                        .message(entry.getMessage())
+                        .type(entry.getType())
+                        .read(false)
+                        .createdAt(entry.getCreatedAt())
+                        .build())
+                .toList();
+        notificationRepository.saveAll(notifications);
+        notificationOutboxRepository.deleteAllInBatch(queued);
+
+        Map<Long, Long> unreadByUser = new HashMap<>();
+        for (Notification notification : notifications) {
+            Long userId = notification.getUser().getId();
+            unreadByUser.merge(userId, 1L, Long::sum);
+            notificationStreamHub.publish(userId, mapToNotificationDto(notification));
+        }
+        unreadByUser.forEach(unreadNotificationCounter::add);
 
-        return notificationRepository.save(notification);
+        return notifications.size();
     }
 
     /**
@@ -0,0 +1,213 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.dto.NotificationDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * In-process fan-out of new notifications to the users' open event streams.
+ *
+ * <p>Each connection has a bounded buffer drained by its own virtual thread,
+ * which also sends heartbeats while the connection is idle, so idle
+ * connections hold no platform thread. A connection whose buffer overflows
+ * is closed; the client reconnects with {@code Last-Event-ID} and catches
+ * up from the database.</p>
+ */
+@Component
+@Slf4j
+public class NotificationStreamHub implements DisposableBean {
+
+    /**
+     * Event telling the client it missed too many notifications to replay
+     * and should reload the list.
+     */
+    public static final String RESET_EVENT = "reset";
+
+    /**
+     * Event carrying a new notification.
+     */
+    public static final String NOTIFICATION_EVENT = "notification";
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter overflows;
+    private final Duration timeout;
+    private final Duration heartbeatInterval;
+    private final int bufferSize;
+
+    public NotificationStreamHub(@Value("${wellness.notifications.stream.timeout}") Duration timeout,
+                                 @Value("${wellness.notifications.stream.heartbeat-interval}") Duration heartbeatInterval,
+                                 @Value("${wellness.notifications.stream.buffer-size}") int bufferSize,
+                                 MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.bufferSize = bufferSize;
+        meterRegistry.gauge("notifications.stream.connections", connections);
+        this.overflows = Counter.builder("notifications.stream.overflows")
+                .description("Event streams closed because the client fell behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open an event stream for a user.
+     *
+     * <p>The stream is registered before {@code missed} is loaded, so no
+     * notification committed in between is lost; duplicates are skipped by ID.</p>
+     *
+     * @param userId the ID of the user
+     * @param missed loads the notifications to replay first, or null if they
+     *               cannot all be replayed and the client must reload
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter subscribe(Long userId, Supplier<List<NotificationDto>> missed) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(userId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscription.sender = Thread.ofVirtual()
+                .name("notification-stream-" + userId)
+                .unstarted(() -> stream(subscription, missed));
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> subscription.close());
+
+        subscriptions.compute(userId, (id, set) -> {
+            Set<Subscription> userSubscriptions = set != null ? set : ConcurrentHashMap.newKeySet();
+            userSubscriptions.add(subscription);
+            return userSubscriptions;
+        });
+        connections.incrementAndGet();
+        subscription.sender.start();
+        return emitter;
+    }
+
+    /**
+     * Send a notification to the user's open streams once the current
+     * transaction commits.
+     *
+     * @param userId the ID of the user
+     * @param notification the new notification
+     */
+    public void publish(Long userId, NotificationDto notification) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(userId, notification);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliver(userId, notification);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        subscriptions.values().forEach(set -> set.forEach(s -> s.emitter.complete()));
+    }
+
+    private void deliver(Long userId, NotificationDto notification) {
+        Set<Subscription> userSubscriptions = subscriptions.get(userId);
+        if (userSubscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : userSubscriptions) {
+            if (!subscription.buffer.offer(notification)) {
+                log.debug("Closing notification stream of user {} after buffer overflow", userId);
+                overflows.increment();
+                subscription.emitter.complete();
+            }
+        }
+    }
+
+    private void stream(Subscription subscription, Supplier<List<NotificationDto>> missed) {
+        SseEmitter emitter = subscription.emitter;
+        long lastSentId = 0;
+        try {
+            List<NotificationDto> replay = missed.get();
+            if (replay == null) {
+                emitter.send(SseEmitter.event().name(RESET_EVENT).data(""));
+            } else {
+                for (NotificationDto notification : replay) {
+                    lastSentId = send(emitter, notification);
+                }
+            }
+
+            long heartbeatNanos = heartbeatInterval.toNanos();
+            while (!subscription.closed.get()) {
+                NotificationDto notification = subscription.buffer.poll(heartbeatNanos, TimeUnit.NANOSECONDS);
+                if (notification == null) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else if (Long.parseLong(notification.getId()) > lastSentId) {
+                    lastSentId = send(emitter, notification);
+                }
+            }
+        } catch (InterruptedException ex) {
+            // Closed while waiting for the next notification
+        } catch (IOException | IllegalStateException ex) {
+            // The client went away
+            log.debug("Notification stream of user {} ended: {}", subscription.userId, ex.getMessage());
+            emitter.complete();
+        } catch (RuntimeException ex) {
+            log.warn("Notification stream of user {} failed", subscription.userId, ex);
+            emitter.completeWithError(ex);
+        }
+    }
+
+    private static long send(SseEmitter emitter, NotificationDto notification) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(notification.getId())
+                .name(NOTIFICATION_EVENT)
+                .data(notification, MediaType.APPLICATION_JSON));
+        return Long.parseLong(notification.getId());
+    }
+
+    /**
+     * One open event stream.
+     */
+    private final class Subscription {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<NotificationDto> buffer;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private Thread sender;
+
+        private Subscription(Long userId, SseEmitter emitter, BlockingQueue<NotificationDto> buffer) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscriptions.computeIfPresent(userId, (id, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+            connections.decrementAndGet();
+            sender.interrupt();
+        }
+    }
+}
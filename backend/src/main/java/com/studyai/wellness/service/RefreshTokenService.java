@@ -0,0 +1,127 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.entity.RefreshTokenFamily;
+import com.studyai.wellness.entity.User;
+import com.studyai.wellness.exception.InvalidTokenException;
+import com.studyai.wellness.repository.RefreshTokenFamilyRepository;
+import com.studyai.wellness.security.JwtPrincipal;
+import com.studyai.wellness.security.JwtTokenProvider;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Service class for issuing and rotating refresh tokens.
+ *
+ * <p>Every login starts a token family. Each refresh replaces the family's
+ * current token; presenting a replaced token revokes the family, so a
+ * stolen token stops working as soon as either party uses it again.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private final JwtTokenProvider tokenProvider;
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpiration;
+
+    /**
+     * Start a new token family and issue its first refresh token.
+     *
+     * @param user the user logging in
+     * @return refresh token string
+     */
+    @Transactional
+    public String issue(User user) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+
+        refreshTokenFamilyRepository.save(RefreshTokenFamily.builder()
+                .id(familyId)
+                .user(user)
+                .currentTokenId(tokenId)
+                .expiresAt(Instant.now().plusMillis(refreshExpiration))
+                .build());
+
+        return tokenProvider.generateRefreshToken(user.getEmail(), user.getId().toString(), familyId, tokenId);
+    }
+
+    /**
+     * Verify the signature, expiry and type of a refresh token.
+     *
+     * @param refreshToken the refresh token
+     * @return the token's principal
+     * @throws InvalidTokenException if the token is not a valid refresh token
+     */
+    public JwtPrincipal verify(String refreshToken) {
+        try {
+            JwtPrincipal principal = tokenProvider.parse(refreshToken);
+            if (principal.refreshToken() && principal.familyId() != null) {
+                return principal;
+            }
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.debug("Rejected refresh token: {}", ex.getMessage());
+        }
+        throw new InvalidTokenException("Invalid refresh token");
+    }
+
+    /**
+     * Replace a verified refresh token with the next one of its family.
+     *
+     * @param principal the verified refresh token
+     * @return the new refresh token string
+     * @throws InvalidTokenException if the token was already replaced or the family is revoked
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public String rotate(JwtPrincipal principal) {
+        String nextTokenId = UUID.randomUUID().toString();
+        Instant expiresAt = Instant.now().plusMillis(refreshExpiration);
+
+        if (refreshTokenFamilyRepository.rotate(principal.familyId(), principal.tokenId(), nextTokenId, expiresAt) == 0) {
+            if (refreshTokenFamilyRepository.revoke(principal.familyId(), Instant.now()) > 0) {
+                log.warn("Refresh token reuse detected for user: {}, revoked family: {}",
+                        principal.userId(), principal.familyId());
+            }
+            throw new InvalidTokenException("Refresh token is no longer valid");
+        }
+
+        return tokenProvider.generateRefreshToken(principal.email(), principal.userId(),
+                principal.familyId(), nextTokenId);
+    }
+
+    /**
+     * Revoke the family of a refresh token. Invalid tokens are ignored.
+     *
+     * @param refreshToken the refresh token
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        try {
+            JwtPrincipal principal = verify(refreshToken);
+            refreshTokenFamilyRepository.revoke(principal.familyId(), Instant.now());
+        } catch (InvalidTokenException ex) {
+            log.debug("Ignored invalid refresh token on logout");
+        }
+    }
+
+    /**
+     * Delete families whose tokens have all expired.
+     */
+    @Scheduled(fixedDelayString = "${wellness.security.revocation.purge-interval}",
+            initialDelayString = "${wellness.security.revocation.purge-interval}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenFamilyRepository.deleteExpired(Instant.now());
+        log.debug("Purged {} expired refresh token families", deleted);
+    }
+}
@@ -0,0 +1,72 @@
+package com.studyai.wellness.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Enumeration of the periods statistics can be requested for.
+ *
+ * <p>Each period is the calendar week, month or year containing the reference day.</p>
+ */
+public enum StatsPeriod {
+
+    /**
+     * Monday to Sunday.
+     */
+    WEEK,
+
+    /**
+     * First to last day of the month.
+     */
+    MONTH,
+
+    /**
+     * First to last day of the year.
+     */
+    YEAR;
+
+    /**
+     * Parse a period name such as "week" or "month".
+     *
+     * @param value the period name
+     * @return the matching StatsPeriod
+     * @throws RuntimeException if the period is not supported
+     */
+    public static StatsPeriod from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new RuntimeException("Unsupported period: " + value);
+        }
+    }
+
+    /**
+     * Get the first day of the period containing a day.
+     *
+     * @param day the reference day
+     * @return first day of the period
+     */
+    public LocalDate start(LocalDate day) {
+        return switch (this) {
+            case WEEK -> day.with(DayOfWeek.MONDAY);
+            case MONTH -> day.withDayOfMonth(1);
+            case YEAR -> day.withDayOfYear(1);
+        };
+    }
+
+    /**
+     * Get the last day of the period containing a day.
+     *
+     * @param day the reference day
+     * @return last day of the period
+     */
+    public LocalDate end(LocalDate day) {
+        LocalDate start = start(day);
+        return switch (this) {
+            case WEEK -> start.plusWeeks(1).minusDays(1);
+            case MONTH -> start.plusMonths(1).minusDays(1);
+            case YEAR -> start.plusYears(1).minusDays(1);
+        };
+    }
+}
@@ -3,100 +3,162 @@ package com.studyai.wellness.service;
 import com.studyai.wellness.dto.*;
 import com.studyai.wellness.entity.*;
 import com.studyai.wellness.repository.*;
+import com.studyai.wellness.repository.projection.DailyCompletionCount;
+import com.studyai.wellness.repository.projection.AchievementView;
+import com.studyai.wellness.repository.projection.GoalView;
+import com.studyai.wellness.repository.projection.MetricAggregate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Service class for handling statistics operations.
  *
  * <p>This service provides statistics and analytics data including
- * overview metrics, weekly stats, achievements, and goals.</p>
+ * overview metrics, period stats, achievements, and goals.</p>
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StatsService {
 
-    private final UserRepository userRepository;
+    private static final double DAILY_CALORIES_TARGET = 2000.0;
+    private static final double NIGHTLY_SLEEP_TARGET = 8.0;
+    private static final double DAILY_STEPS_TARGET = 10000.0;
+
     private final MetricRepository metricRepository;
+    private final MetricRollupService metricRollupService;
+    private final MetricDtoMapper metricDtoMapper;
     private final GoalRepository goalRepository;
     private final AchievementRepository achievementRepository;
+    private final HabitRepository habitRepository;
+    private final HabitCheckInRepository habitCheckInRepository;
+    private final StatsSnapshotStore statsSnapshotStore;
 
     /**
      * Get statistics data for a specific user.
      *
+     * <p>Statistics are served from the user's snapshot for the period, which
+     * is built on first access and kept current as samples and check-ins
+     * arrive. Not transactional, so a snapshot hit touches no connection.</p>
+     *
      * @param userId the ID of the user
-     * @param period the time period for statistics (e.g., "week", "month")
+     * @param period the time period for statistics ("week", "month" or "year")
      * @return StatsDto containing all statistics information
      */
-    @Transactional(readOnly = true)
     public StatsDto getStats(Long userId, String period) {
         log.info("Fetching stats for user: {}, period: {}", userId, period);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        List<Metric> overviewMetrics = metricRepository.findLatestMetricsByUserId(userId);
-        List<Goal> goals = goalRepository.findByUserIdAndActiveTrueOrderByDeadlineAsc(userId);
-        List<Achievement> achievements = achievementRepository.findByUserIdOrderByUnlockedAtDesc(userId);
+        StatsPeriod statsPeriod = StatsPeriod.from(period);
+        LocalDate today = LocalDate.now();
+        StatsSnapshot snapshot = statsSnapshotStore.get(userId, statsPeriod, today,
+                () -> buildSnapshot(userId, statsPeriod, today));
 
         return StatsDto.builder()
-                .overview(mapToMetricDtos(overviewMetrics))
-                .weeklyStats(generateWeeklyStats(user))
-                .achievements(mapToAchievementDtos(achievements))
-                .goals(mapToGoalDtos(goals))
+                .period(statsPeriod.name().toLowerCase(Locale.ROOT))
+                .overview(metricDtoMapper.toLatestDtos(snapshot.getLatestMetrics()))
+                .weeklyStats(generatePeriodStats(snapshot))
+                .achievements(snapshot.getAchievements())
+                .goals(snapshot.getGoals())
+                .asOf(snapshot.getAsOf())
+                .build();
+    }
+
+    /**
+     * Build a statistics snapshot from the database.
+     *
+     * <p>The user ID comes from the authenticated token, so the user is not
+     * looked up again. Metric totals are read from rollups, so a year costs
+     * a few hundred rows per type instead of every sample.</p>
+     *
+     * @param userId the ID of the user
+     * @param period the statistics period
+     * @param today the reference day
+     * @return a fresh StatsSnapshot
+     */
+    private StatsSnapshot buildSnapshot(Long userId, StatsPeriod period, LocalDate today) {
+        Instant builtAt = Instant.now();
+        LocalDate start = period.start(today);
+        LocalDate end = period.end(today);
+
+        Map<LocalDate, Long> completionsByDay = new HashMap<>();
+        for (DailyCompletionCount count : habitCheckInRepository.countDailyCompletions(userId, start, end)) {
+            completionsByDay.put(count.getDate(), count.getCompleted());
+        }
+
+        Map<Metric.MetricType, Double> totals = new EnumMap<>(Metric.MetricType.class);
+        Map<Metric.MetricType, Long> counts = new EnumMap<>(Metric.MetricType.class);
+        for (MetricAggregate aggregate : metricRollupService.aggregateByType(
+                userId, start.atStartOfDay(), end.plusDays(1).atStartOfDay())) {
+            totals.put(aggregate.getType(), aggregate.getTotal());
+            counts.put(aggregate.getType(), aggregate.getCount());
+        }
+
+        return StatsSnapshot.builder()
+                .period(period)
+                .start(start)
+                .end(end)
+                .activeHabitCount((int) habitRepository.countByUserIdAndActiveTrue(userId))
+                .completionsByDay(completionsByDay)
+                .totals(totals)
+                .counts(counts)
+                .latestMetrics(metricRepository.findLatestMetricsByUserId(userId, MetricDtoMapper.SAMPLES_PER_TYPE))
+                .achievements(mapToAchievementDtos(achievementRepository.findViewsByUserIdOrderByUnlockedAtDesc(userId)))
+                .goals(mapToGoalDtos(goalRepository.findViewsByUserIdAndActiveTrueOrderByDeadlineAsc(userId)))
+                .builtAt(builtAt)
+                .asOf(builtAt)
                 .build();
     }
 
     /**
-     * Generate weekly statistics for the user.
+     * Generate the statistics of a period from its snapshot.
+     *
+     * <p>Activity is the number of days on which most habits were completed,
+     * read from the habit check-in log. Targets scale with the period length.</p>
      *
-     * @param user the user entity
+     * @param snapshot the statistics snapshot
      * @return list of WeeklyStatDto
      */
-    private List<WeeklyStatDto> generateWeeklyStats(User user) {
+    private List<WeeklyStatDto> generatePeriodStats(StatsSnapshot snapshot) {
+        double days = ChronoUnit.DAYS.between(snapshot.getStart(), snapshot.getEnd()) + 1;
+        Map<Metric.MetricType, Double> totals = snapshot.getTotals();
+        long sleepSamples = snapshot.getCounts().getOrDefault(Metric.MetricType.SLEEP_HOURS, 0L);
+
         return List.of(
                 WeeklyStatDto.builder()
                         .label("Activity")
-                        .value(5.2)
-                        .target(7.0)
+                        .value((double) snapshot.getCompletedDays())
+                        .target(days)
                         .build(),
                 WeeklyStatDto.builder()
                         .label("Calories")
-                        .value(12450.0)
-                        .target(14000.0)
+                        .value(totals.getOrDefault(Metric.MetricType.CALORIES_BURNED, 0.0))
+                        .target(DAILY_CALORIES_TARGET * days)
                         .build(),
                 WeeklyStatDto.builder()
                         .label("Sleep")
-                        .value(7.2)
-                        .target(8.0)
+                        .value(sleepSamples == 0 ? 0.0
+                                : totals.get(Metric.MetricType.SLEEP_HOURS) / sleepSamples)
+                        .target(NIGHTLY_SLEEP_TARGET)
                         .build(),
                 WeeklyStatDto.builder()
                         .label("Steps")
-                        .value(45000.0)
-                        .target(70000.0)
+                        .value(totals.getOrDefault(Metric.MetricType.STEPS, 0.0))
+                        .target(DAILY_STEPS_TARGET * days)
                         .build()
         );
     }
 
-    private List<MetricDto> mapToMetricDtos(List<Metric> metrics) {
-        return metrics.stream()
-                .map(m -> MetricDto.builder()
-                        .id(m.getId().toString())
-                        .title(m.getTitle())
-                        .value(m.getValue())
-                        .subtitle(m.getSubtitle())
-                        .trend(m.getTrend())
-                        .color(m.getColor())
-                        .build())
-                .toList();
-    }
-
-    private List<AchievementDto> mapToAchievementDtos(List<Achievement> achievements) {
+    private List<AchievementDto> mapToAchievementDtos(List<AchievementView> achievements) {
         return achievements.stream()
                 .map(a -> AchievementDto.builder()
                         .id(a.getId().toString())
@@ -108,7 +170,7 @@ public class StatsService {
                 .toList();
     }
 
-    private List<GoalDto> mapToGoalDtos(List<Goal> goals) {
+    private List<GoalDto> mapToGoalDtos(List<GoalView> goals) {
         return goals.stream()
                 .map(g -> GoalDto.builder()
                         .id(g.getId().toString())
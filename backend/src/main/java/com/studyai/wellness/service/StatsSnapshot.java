@@ -0,0 +1,184 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.dto.AchievementDto;
+import com.studyai.wellness.dto.GoalDto;
+import com.studyai.wellness.entity.Metric.MetricType;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable running aggregates behind a user's statistics for one period.
+ *
+ * <p>A snapshot is built once from the database and then advanced with
+ * {@link #withMetric(MetricPoint)} and {@link #withCheckIn(LocalDate)} as new
+ * samples and check-ins arrive, so reading statistics needs no queries.</p>
+ */
+@Value
+@Builder(toBuilder = true)
+public class StatsSnapshot {
+
+    /**
+     * Period the snapshot covers.
+     */
+    StatsPeriod period;
+
+    /**
+     * First day of the period.
+     */
+    LocalDate start;
+
+    /**
+     * Last day of the period.
+     */
+    LocalDate end;
+
+    /**
+     * Number of active habits when the snapshot was built.
+     */
+    int activeHabitCount;
+
+    /**
+     * Number of habits completed per day within the period.
+     */
+    Map<LocalDate, Long> completionsByDay;
+
+    /**
+     * Sum of sample values per metric type within the period.
+     */
+    Map<MetricType, Double> totals;
+
+    /**
+     * Number of samples per metric type within the period.
+     */
+    Map<MetricType, Long> counts;
+
+    /**
+     * Newest samples per metric type, newest first within each type.
+     */
+    List<MetricPoint> latestMetrics;
+
+    /**
+     * Achievements of the user.
+     */
+    List<AchievementDto> achievements;
+
+    /**
+     * Active goals of the user.
+     */
+    List<GoalDto> goals;
+
+    /**
+     * Time the snapshot was built from the database.
+     */
+    Instant builtAt;
+
+    /**
+     * Time the snapshot was built or last advanced.
+     */
+    Instant asOf;
+
+    /**
+     * Check whether a day falls within the period of this snapshot.
+     *
+     * @param day the day to check
+     * @return true if the day is within the period
+     */
+    public boolean covers(LocalDate day) {
+        return !day.isBefore(start) && !day.isAfter(end);
+    }
+
+    /**
+     * Count the days on which more than half of the active habits were completed.
+     *
+     * @return number of completed days
+     */
+    public long getCompletedDays() {
+        return completionsByDay.values().stream()
+                .filter(completed -> activeHabitCount > 0 && completed > activeHabitCount / 2)
+                .count();
+    }
+
+    /**
+     * Advance the snapshot with a new metric sample.
+     *
+     * @param metric the recorded sample
+     * @return the updated snapshot
+     */
+    public StatsSnapshot withMetric(MetricPoint metric) {
+        MetricType type = metric.type();
+        StatsSnapshotBuilder builder = toBuilder().asOf(Instant.now());
+
+        if (covers(metric.recordedAt().toLocalDate())) {
+            Map<MetricType, Double> newTotals = new EnumMap<>(MetricType.class);
+            newTotals.putAll(totals);
+            newTotals.merge(type, metric.value(), Double::sum);
+
+            Map<MetricType, Long> newCounts = new EnumMap<>(MetricType.class);
+            newCounts.putAll(counts);
+            newCounts.merge(type, 1L, Long::sum);
+
+            builder.totals(newTotals).counts(newCounts);
+        }
+
+        return builder.latestMetrics(insertLatest(metric)).build();
+    }
+
+    /**
+     * Advance the snapshot with a new habit check-in.
+     *
+     * @param day the day the habit was completed
+     * @return the updated snapshot
+     */
+    public StatsSnapshot withCheckIn(LocalDate day) {
+        if (!covers(day)) {
+            return this;
+        }
+
+        Map<LocalDate, Long> newCompletions = new HashMap<>(completionsByDay);
+        newCompletions.merge(day, 1L, Long::sum);
+
+        return toBuilder()
+                .completionsByDay(newCompletions)
+                .asOf(Instant.now())
+                .build();
+    }
+
+    /**
+     * Insert a sample into the newest samples of its type, keeping the
+     * number of samples per type unchanged once it is reached.
+     *
+     * @param metric the recorded sample
+     * @return updated list of newest samples
+     */
+    private List<MetricPoint> insertLatest(MetricPoint metric) {
+        Map<MetricType, List<MetricPoint>> byType = new EnumMap<>(MetricType.class);
+        for (MetricPoint m : latestMetrics) {
+            byType.computeIfAbsent(m.type(), t -> new ArrayList<>()).add(m);
+        }
+
+        List<MetricPoint> samples = byType.computeIfAbsent(metric.type(), t -> new ArrayList<>());
+        int position = 0;
+        while (position < samples.size() && !samples.get(position).recordedAt().isBefore(metric.recordedAt())) {
+            position++;
+        }
+        if (position < MetricDtoMapper.SAMPLES_PER_TYPE) {
+            samples.add(position, metric);
+            if (samples.size() > MetricDtoMapper.SAMPLES_PER_TYPE) {
+                samples.remove(samples.size() - 1);
+            }
+        }
+
+        return byType.values().stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+}
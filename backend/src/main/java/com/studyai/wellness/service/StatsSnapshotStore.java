@@ -0,0 +1,207 @@
+package com.studyai.wellness.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory store of statistics snapshots keyed by user and period.
+ *
+ * <p>Snapshots are bounded by the configured Caffeine spec and expire a
+ * fixed time after they were built, however often they are advanced. New
+ * metric samples and habit check-ins advance every cached snapshot of the
+ * user once the writing transaction commits. A snapshot built while a write
+ * of the same user was committing is returned but not cached, since it may
+ * or may not include that write.</p>
+ */
+@Component
+@Slf4j
+public class StatsSnapshotStore {
+
+    /**
+     * Number of write counters users are spread over.
+     */
+    private static final int STRIPES = 1024;
+
+    private final Cache<SnapshotKey, StatsSnapshot> snapshots;
+    private final AtomicLongArray writes = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray committing = new AtomicLongArray(STRIPES);
+
+    public StatsSnapshotStore(@Value("${wellness.cache.stats-snapshots.spec}") String spec,
+                              @Value("${wellness.cache.stats-snapshots.max-age}") Duration maxAge,
+                              MeterRegistry meterRegistry) {
+        this.snapshots = Caffeine.from(spec)
+                .expireAfter(new AfterBuild(maxAge))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "statsSnapshots");
+    }
+
+    /**
+     * Get the snapshot of a user's period containing a day, building it
+     * when missing or when the cached one covers an earlier period.
+     *
+     * @param userId the ID of the user
+     * @param period the statistics period
+     * @param today the reference day
+     * @param loader builds a fresh snapshot from the database
+     * @return the current snapshot
+     */
+    public StatsSnapshot get(Long userId, StatsPeriod period, LocalDate today, Supplier<StatsSnapshot> loader) {
+        SnapshotKey key = new SnapshotKey(userId, period);
+        StatsSnapshot cached = snapshots.getIfPresent(key);
+        if (cached != null && cached.covers(today)) {
+            return cached;
+        }
+
+        int stripe = stripe(userId);
+        long writesBefore = writes.get(stripe);
+        boolean quiet = committing.get(stripe) == 0;
+
+        log.debug("Building {} stats snapshot for user: {}", period, userId);
+        StatsSnapshot snapshot = loader.get();
+
+        if (quiet) {
+            // Serializes with updates of the key, which count as writes before they apply
+            snapshots.asMap().compute(key, (k, current) ->
+                    writes.get(stripe) == writesBefore ? snapshot : current);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Apply new metric samples to the user's snapshots after commit.
+     *
+     * @param userId the ID of the user
+     * @param samples the samples stored as new rows
+     */
+    public void recordMetrics(Long userId, Collection<MetricPoint> samples) {
+        List<MetricPoint> added = List.copyOf(samples);
+        write(userId, () -> update(userId, snapshot -> {
+            StatsSnapshot advanced = snapshot;
+            for (MetricPoint sample : added) {
+                advanced = advanced.withMetric(sample);
+            }
+            return advanced;
+        }));
+    }
+
+    /**
+     * Apply a new habit check-in to the user's snapshots after commit.
+     *
+     * @param userId the ID of the user
+     * @param day the day the habit was completed
+     */
+    public void recordCheckIn(Long userId, LocalDate day) {
+        write(userId, () -> update(userId, snapshot -> snapshot.withCheckIn(day)));
+    }
+
+    /**
+     * Drop all snapshots of a user after commit, e.g. after writes that
+     * replace values instead of adding samples.
+     *
+     * @param userId the ID of the user
+     */
+    public void invalidate(Long userId) {
+        write(userId, () -> {
+            for (StatsPeriod period : StatsPeriod.values()) {
+                snapshots.invalidate(new SnapshotKey(userId, period));
+            }
+        });
+    }
+
+    private void update(Long userId, UnaryOperator<StatsSnapshot> change) {
+        for (StatsPeriod period : StatsPeriod.values()) {
+            snapshots.asMap().computeIfPresent(new SnapshotKey(userId, period),
+                    (key, snapshot) -> change.apply(snapshot));
+        }
+    }
+
+    /**
+     * Apply a change once the surrounding transaction commits.
+     *
+     * <p>From just before the commit until the change is applied the
+     * user's stripe counts as committing, so snapshots loaded meanwhile are
+     * not cached.</p>
+     */
+    private void write(Long userId, Runnable apply) {
+        int stripe = stripe(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writes.incrementAndGet(stripe);
+            apply.run();
+            writes.incrementAndGet(stripe);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean started;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                committing.incrementAndGet(stripe);
+                writes.incrementAndGet(stripe);
+                started = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!started) {
+                    return;
+                }
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply.run();
+                    }
+                } finally {
+                    writes.incrementAndGet(stripe);
+                    committing.decrementAndGet(stripe);
+                }
+            }
+        });
+    }
+
+    private static int stripe(Long userId) {
+        return Math.floorMod(userId.hashCode(), STRIPES);
+    }
+
+    private record SnapshotKey(Long userId, StatsPeriod period) {
+    }
+
+    /**
+     * Expires snapshots a fixed time after they were built; advancing a
+     * snapshot keeps its build time.
+     */
+    private record AfterBuild(Duration maxAge) implements Expiry<SnapshotKey, StatsSnapshot> {
+
+        @Override
+        public long expireAfterCreate(SnapshotKey key, StatsSnapshot snapshot, long currentTime) {
+            Duration age = Duration.between(snapshot.getBuiltAt(), Instant.now());
+            return Math.max(0, maxAge.minus(age).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(SnapshotKey key, StatsSnapshot snapshot, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, snapshot, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(SnapshotKey key, StatsSnapshot snapshot, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
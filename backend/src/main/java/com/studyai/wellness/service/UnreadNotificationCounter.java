@@ -0,0 +1,71 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.repository.NotificationCounterRepository;
+import com.studyai.wellness.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Per-user count of unread notifications, stored in {@code notification_counters}.
+ *
+ * <p>Changes join the caller's transaction, so the count commits or rolls
+ * back together with the notifications it describes. A user's counter is
+ * created by the first change or reconciliation; until then the user is
+ * counted from the notifications table.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadNotificationCounter {
+
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * Get the number of unread notifications of a user.
+     *
+     * @param userId the ID of the user
+     * @return number of unread notifications
+     */
+    @Transactional(readOnly = true)
+    public long get(Long userId) {
+        return notificationCounterRepository.findUnreadByUserId(userId)
+                .orElseGet(() -> notificationRepository.countByUserIdAndReadFalse(userId));
+    }
+
+    /**
+     * Record that notifications of a user became unread or read.
+     *
+     * <p>If the user has no counter yet, it is created from the
+     * notifications table, which already includes this change.</p>
+     *
+     * @param userId the ID of the user
+     * @param delta number of new unread notifications, negative when read
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long userId, long delta) {
+        if (delta != 0 && notificationCounterRepository.add(userId, delta) == 0) {
+            notificationCounterRepository.createByUserId(userId);
+        }
+    }
+
+    /**
+     * Correct drifted counters and create missing ones, on startup and then
+     * periodically.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${wellness.notifications.unread-count.reconcile-interval}",
+            initialDelayString = "${wellness.notifications.unread-count.reconcile-interval}")
+    @Transactional
+    public void reconcile() {
+        int updated = notificationCounterRepository.reconcileDrifted();
+        int created = notificationCounterRepository.createMissing();
+        log.debug("Reconciled {} and created {} unread notification counters", updated, created);
+    }
+}
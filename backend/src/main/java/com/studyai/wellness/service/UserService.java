@@ -1,11 +1,13 @@
 package com.studyai.wellness.service;
 
+import com.studyai.wellness.config.CacheConfig;
 import com.studyai.wellness.dto.UserDto;
 import com.studyai.wellness.dto.UserPreferencesDto;
 import com.studyai.wellness.entity.User;
 import com.studyai.wellness.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,6 +46,7 @@ public class UserService {
      * @param preferencesDto the new preferences
      * @return updated UserDto
      */
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_CACHE, key = "#userId")
     @Transactional
     public UserDto updatePreferences(Long userId, UserPreferencesDto preferencesDto) {
         log.info("Updating preferences for user: {}", userId);
@@ -0,0 +1,100 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.entity.DayProgress;
+import com.studyai.wellness.entity.WeeklyProgress;
+import com.studyai.wellness.repository.HabitCheckInRepository;
+import com.studyai.wellness.repository.HabitRepository;
+import com.studyai.wellness.repository.projection.DailyCompletionCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service class for computing weekly progress.
+ *
+ * <p>Completions for the whole Monday to Sunday window are loaded with a
+ * single aggregated query and the seven days are computed in memory.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WeeklyProgressService {
+
+    private static final String[] DAY_NAMES = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+
+    private final HabitCheckInRepository habitCheckInRepository;
+    private final HabitRepository habitRepository;
+
+    /**
+     * Compute the progress of the week containing the given day, counting
+     * the user's active habits first.
+     *
+     * @param userId the ID of the user
+     * @param today the reference day
+     * @return WeeklyProgress entity (not persisted)
+     */
+    @Transactional(readOnly = true)
+    public WeeklyProgress getWeeklyProgress(Long userId, LocalDate today) {
+        return getWeeklyProgress(userId, (int) habitRepository.countByUserIdAndActiveTrue(userId), today);
+    }
+
+    /**
+     * Compute the progress of the week containing the given day.
+     *
+     * @param userId the ID of the user
+     * @param activeHabitCount the number of active habits of the user
+     * @param today the reference day
+     * @return WeeklyProgress entity (not persisted)
+     */
+    @Transactional(readOnly = true)
+    public WeeklyProgress getWeeklyProgress(Long userId, int activeHabitCount, LocalDate today) {
+        LocalDate startOfWeek = today.with(DayOfWeek.MONDAY);
+        LocalDate endOfWeek = startOfWeek.plusDays(DAY_NAMES.length - 1);
+
+        Map<LocalDate, Long> completedByDay = new HashMap<>();
+        if (activeHabitCount > 0) {
+            for (DailyCompletionCount count : habitCheckInRepository
+                    .countDailyCompletions(userId, startOfWeek, endOfWeek)) {
+                completedByDay.put(count.getDate(), count.getCompleted());
+            }
+        }
+
+        List<DayProgress> days = new ArrayList<>(DAY_NAMES.length);
+        for (int i = 0; i < DAY_NAMES.length; i++) {
+            LocalDate date = startOfWeek.plusDays(i);
+            long completed = completedByDay.getOrDefault(date, 0L);
+
+            days.add(DayProgress.builder()
+                    .day(DAY_NAMES[i])
+                    .date(date)
+                    .value(activeHabitCount > 0 ? Math.min(1.0, (double) completed / activeHabitCount) : 0.0)
+                    .completed(isDayCompleted(completed, activeHabitCount))
+                    .weeklyProgress(null) // Not persisted, set to null
+                    .build());
+        }
+
+        return WeeklyProgress.builder()
+                .weekStartDate(startOfWeek)
+                .days(days)
+                .build();
+    }
+
+    /**
+     * A day counts as completed when more than half of the active habits were done.
+     *
+     * @param completed number of habits completed on the day
+     * @param activeHabitCount number of active habits
+     * @return true if the day's goals are completed
+     */
+    private boolean isDayCompleted(long completed, int activeHabitCount) {
+        return activeHabitCount > 0 && completed > activeHabitCount / 2;
+    }
+}
@@ -0,0 +1,119 @@
+package com.studyai.wellness.controller;
+
+import com.studyai.wellness.entity.User;
+import com.studyai.wellness.repository.UserRepository;
+import com.studyai.wellness.security.JwtTokenProvider;
+import com.studyai.wellness.service.StatsSnapshotStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts the exact number of SQL statements the read endpoints issue for
+ * the seeded user, so that entity hydration or lazy loading on a read path
+ * shows up as a failing count.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EndpointQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private StatsSnapshotStore statsSnapshotStore;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String authorization;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByEmail("user@example.com").orElseThrow();
+        authorization = "Bearer " + jwtTokenProvider.generateToken(user.getEmail(), user.getId().toString());
+
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        statsSnapshotStore.invalidate(user.getId());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void dashboardIssuesOneStatementPerSection() throws Exception {
+        mockMvc.perform(get("/dashboard").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+
+        // user, latest metrics, habits, check-in days, weekly completions
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void cachedDashboardIssuesNoStatements() throws Exception {
+        mockMvc.perform(get("/dashboard").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+        statistics.clear();
+
+        mockMvc.perform(get("/dashboard").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void invalidNotificationCursorIsRejectedWithoutStatements() throws Exception {
+        mockMvc.perform(get("/notifications").param("cursor", "not-a-cursor")
+                        .header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isBadRequest());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void statsIssueOneStatementPerSection() throws Exception {
+        mockMvc.perform(get("/stats").param("period", "month").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+
+        // completions, rollup aggregates, active habits, latest metrics, achievements, goals
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void snapshotStatsIssueNoStatements() throws Exception {
+        mockMvc.perform(get("/stats").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+        statistics.clear();
+
+        mockMvc.perform(get("/stats").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
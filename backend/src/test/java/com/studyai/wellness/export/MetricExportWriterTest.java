@@ -0,0 +1,117 @@
+package com.studyai.wellness.export;
+
+import com.studyai.wellness.entity.Metric.MetricType;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round trips through {@link MetricExportWriter} and {@link MetricExportReader}.
+ */
+class MetricExportWriterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Test
+    void irregularTimestampsRoundTrip() throws IOException {
+        long[] gapsMicros = {
+                0, 1, 60_000_000, 60_000_000, 60_000_001, 59_999_937, 3_600_000_000L, 1,
+                86_400_000_000L * 365 * 50, 13, 86_400_000_000L, 250_000};
+        List<MetricPoint> samples = new ArrayList<>();
+        LocalDateTime time = START;
+        for (int i = 0; i < gapsMicros.length; i++) {
+            time = time.plusNanos(gapsMicros[i] * 1_000);
+            samples.add(new MetricPoint(null, MetricType.STEPS, i, time));
+        }
+
+        assertRoundTrip(samples);
+    }
+
+    @Test
+    void timestampsBefore1970RoundTrip() throws IOException {
+        List<MetricPoint> samples = List.of(
+                new MetricPoint(null, MetricType.SLEEP_HOURS, 7.5, LocalDateTime.of(1900, 1, 1, 0, 0)),
+                new MetricPoint(null, MetricType.SLEEP_HOURS, 8, LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000)),
+                new MetricPoint(null, MetricType.SLEEP_HOURS, 6, LocalDateTime.of(1970, 1, 1, 0, 0)),
+                new MetricPoint(null, MetricType.SLEEP_HOURS, 6.5, LocalDateTime.of(1970, 1, 1, 0, 0, 0, 1_000)));
+
+        assertRoundTrip(samples);
+    }
+
+    @Test
+    void specialValuesRoundTripBitForBit() throws IOException {
+        double[] values = {
+                0.0, -0.0, Double.NaN, Double.longBitsToDouble(0x7ff8_0000_0000_0001L),
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE,
+                // XOR with the previous value has no leading or trailing zeros: a 64-bit window
+                0.0, Double.longBitsToDouble(0x8000_0000_0000_0001L), 0.0, 1.0, 1.0};
+        List<MetricPoint> samples = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            samples.add(new MetricPoint(null, MetricType.WATER_INTAKE, values[i], START.plusMinutes(i)));
+        }
+
+        assertRoundTrip(samples);
+    }
+
+    @Test
+    void samplesSpanningSeveralBlocksOfTwoTypesRoundTrip() throws IOException {
+        Random random = new Random(42);
+        List<MetricPoint> samples = new ArrayList<>();
+        appendRandom(samples, MetricType.CALORIES_BURNED, MetricExportFormat.BLOCK_SIZE * 2 + 452, random);
+        appendRandom(samples, MetricType.STEPS, MetricExportFormat.BLOCK_SIZE + 476, random);
+
+        ByteArrayOutputStream out = write(samples);
+        MetricExportReader reader = new MetricExportReader(new ByteArrayInputStream(out.toByteArray()));
+        List<Integer> blockSizes = new ArrayList<>();
+        for (MetricExportReader.Block block = reader.readBlock(); block != null; block = reader.readBlock()) {
+            blockSizes.add(block.size());
+        }
+
+        assertThat(blockSizes).containsExactly(1024, 1024, 452, 1024, 476);
+        assertRoundTrip(samples);
+    }
+
+    private static void appendRandom(List<MetricPoint> samples, MetricType type, int count, Random random) {
+        LocalDateTime time = START;
+        double value = 100;
+        for (int i = 0; i < count; i++) {
+            time = time.plusNanos((1 + random.nextInt(600_000_000)) * 1_000L);
+            value = random.nextInt(4) == 0 ? value : value + random.nextGaussian();
+            samples.add(new MetricPoint(null, type, value, time));
+        }
+    }
+
+    private static void assertRoundTrip(List<MetricPoint> samples) throws IOException {
+        List<MetricPoint> read = MetricExportReader.readAll(new ByteArrayInputStream(write(samples).toByteArray()));
+
+        assertThat(read).hasSameSizeAs(samples);
+        for (int i = 0; i < samples.size(); i++) {
+            MetricPoint expected = samples.get(i);
+            MetricPoint actual = read.get(i);
+            assertThat(actual.type()).isEqualTo(expected.type());
+            assertThat(actual.recordedAt()).isEqualTo(expected.recordedAt());
+            assertThat(Double.doubleToRawLongBits(actual.value()))
+                    .as("bits of sample %d", i)
+                    .isEqualTo(Double.doubleToRawLongBits(expected.value()));
+        }
+    }
+
+    private static ByteArrayOutputStream write(List<MetricPoint> samples) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MetricExportWriter writer = new MetricExportWriter(out);
+        for (MetricPoint sample : samples) {
+            writer.write(sample.type(), sample.recordedAt(), sample.value());
+        }
+        writer.finish();
+        return out;
+    }
+}
@@ -0,0 +1,177 @@
+package com.studyai.wellness.repository;
+
+import com.studyai.wellness.entity.Metric;
+import com.studyai.wellness.entity.User;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Queries of {@link MetricRepository} against a long sample history.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MetricRepositoryTest {
+
+    private static final int SAMPLES_PER_TYPE = 3000;
+    private static final LocalDateTime NEWEST = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired
+    private MetricRepository metricRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void findLatestMetricsReturnsNewestSamplesOfEachType() {
+        Long userId = createUser();
+        Long otherUserId = createUser();
+        seed(userId, SAMPLES_PER_TYPE);
+        seed(otherUserId, 10);
+        // Newer than everything of the user, but belongs to another user
+        metricRepository.upsertAll(otherUserId, List.of(
+                new MetricPoint(null, Metric.MetricType.STEPS, -1, NEWEST.plusDays(1))));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<MetricPoint> latest = metricRepository.findLatestMetricsByUserId(userId, 2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(latest).hasSize(Metric.MetricType.values().length * 2);
+        List<MetricPoint> expected = new ArrayList<>();
+        for (Metric.MetricType type : Metric.MetricType.values()) {
+            expected.add(sample(type, 0));
+            expected.add(sample(type, 1));
+        }
+        assertThat(latest)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void findLatestMetricsReturnsFewerSamplesOfShortHistories() {
+        Long userId = createUser();
+        metricRepository.upsertAll(userId, List.of(sample(Metric.MetricType.SLEEP_HOURS, 0)));
+
+        assertThat(metricRepository.findLatestMetricsByUserId(userId, 2))
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id")
+                .containsExactly(sample(Metric.MetricType.SLEEP_HOURS, 0));
+        assertThat(metricRepository.findLatestMetricsByUserId(createUser(), 2)).isEmpty();
+    }
+
+    @Test
+    void upsertClassifiesRowsWithoutUpdateCounts() {
+        Long userId = createUser();
+        MetricPoint kept = sample(Metric.MetricType.STEPS, 0);
+        MetricPoint replaced = sample(Metric.MetricType.STEPS, 1);
+        metricRepository.upsertAll(userId, List.of(kept, replaced));
+
+        MetricBatchRepository upserts = new MetricBatchRepositoryImpl(entityManager, new NoInfoJdbcTemplate(jdbcTemplate));
+        MetricPoint replacement = new MetricPoint(null, Metric.MetricType.STEPS, 42, replaced.recordedAt());
+        MetricPoint added = sample(Metric.MetricType.STEPS, 2);
+        MetricBatchRepository.UpsertResult result = new TransactionTemplate(transactionManager).execute(status ->
+                upserts.upsertAll(userId, List.of(kept, replacement, added)));
+
+        // Without counts a stored sample cannot be told apart from an unchanged one
+        assertThat(result.changed()).containsExactly(kept, replacement);
+        assertThat(result.inserted()).containsExactly(added);
+        assertThat(metricRepository.findLatestMetricsByUserId(userId, 3))
+                .extracting(MetricPoint::value)
+                .containsExactly(0.0, 42.0, 2.0);
+    }
+
+    private Long createUser() {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .password("unused")
+                .name("Sampler")
+                .createdAt(LocalDateTime.now())
+                .active(true)
+                .build()).getId();
+    }
+
+    private void seed(Long userId, int samplesPerType) {
+        List<MetricPoint> batch = new ArrayList<>();
+        for (Metric.MetricType type : Metric.MetricType.values()) {
+            for (int age = 0; age < samplesPerType; age++) {
+                batch.add(sample(type, age));
+                if (batch.size() == 1000) {
+                    metricRepository.upsertAll(userId, batch);
+                    batch.clear();
+                }
+            }
+        }
+        metricRepository.upsertAll(userId, batch);
+    }
+
+    /**
+     * Sample of a type taken {@code age} hours before the newest one, with
+     * the age as its value.
+     */
+    private static MetricPoint sample(Metric.MetricType type, int age) {
+        return new MetricPoint(null, type, age, NEWEST.minusHours(age));
+    }
+
+    /**
+     * Reports {@link Statement#SUCCESS_NO_INFO} for every batched row, like
+     * drivers that do not return per-row counts.
+     */
+    private static class NoInfoJdbcTemplate extends JdbcTemplate {
+
+        NoInfoJdbcTemplate(JdbcTemplate delegate) {
+            super(delegate.getDataSource());
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, BatchPreparedStatementSetter pss) {
+            return noInfo(super.batchUpdate(sql, pss));
+        }
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> pss) {
+            int[][] counts = super.batchUpdate(sql, batchArgs, batchSize, pss);
+            return Arrays.stream(counts).map(NoInfoJdbcTemplate::noInfo).toArray(int[][]::new);
+        }
+
+        private static int[] noInfo(int[] counts) {
+            int[] result = new int[counts.length];
+            Arrays.fill(result, Statement.SUCCESS_NO_INFO);
+            return result;
+        }
+    }
+}
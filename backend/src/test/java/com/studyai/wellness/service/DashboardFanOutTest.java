@@ -0,0 +1,71 @@
+package com.studyai.wellness.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Deadline handling of {@link DashboardFanOut}.
+ */
+class DashboardFanOutTest {
+
+    private final DashboardFanOut fanOut =
+            new DashboardFanOut(Duration.ofSeconds(1), 2);
+
+    @Test
+    void sectionsWithinTheDeadlineAreReturned() {
+        long deadline = fanOut.deadlineFromNow();
+        Future<String> section = fanOut.submit(() -> "user", deadline);
+
+        assertThat(fanOut.await(section, deadline, "user")).isEqualTo("user");
+    }
+
+    @Test
+    void lateSectionIsInterrupted() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        long deadline = fanOut.deadlineFromNow();
+        Future<String> section = fanOut.submit(() -> {
+            try {
+                Thread.sleep(Duration.ofMinutes(1));
+                return "metrics";
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw ex;
+            }
+        }, deadline);
+
+        assertThat(fanOut.await(section, deadline, "metrics")).isNull();
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void sectionWithoutFreeSlotIsStaleAtTheDeadline() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        long deadline = fanOut.deadlineFromNow();
+        Future<String> first = fanOut.submit(() -> holdSlot(started, release), deadline);
+        Future<String> second = fanOut.submit(() -> holdSlot(started, release), deadline);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long submitted = System.nanoTime();
+        Future<String> third = fanOut.submit(() -> "habits", deadline);
+        // Submitting never waits for a slot
+        assertThat(System.nanoTime() - submitted).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertThat(fanOut.await(third, deadline, "habits")).isNull();
+        assertThat(System.nanoTime()).isLessThan(deadline + TimeUnit.MILLISECONDS.toNanos(500));
+        release.countDown();
+        fanOut.cancelAll(first, second);
+    }
+
+    private static String holdSlot(CountDownLatch started, CountDownLatch release) throws InterruptedException {
+        started.countDown();
+        release.await();
+        return "done";
+    }
+}
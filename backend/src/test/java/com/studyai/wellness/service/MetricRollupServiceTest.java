@@ -0,0 +1,147 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.dto.MetricBatchResultDto;
+import com.studyai.wellness.entity.Metric;
+import com.studyai.wellness.entity.User;
+import com.studyai.wellness.repository.MetricRepository;
+import com.studyai.wellness.repository.UserRepository;
+import com.studyai.wellness.repository.projection.MetricAggregate;
+import com.studyai.wellness.repository.projection.MetricPoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Interplay of {@link MetricRollupService} rebuilds with uploads and statistics snapshots.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MetricRollupServiceTest {
+
+    private static final LocalDateTime HOUR = LocalDateTime.of(2026, 1, 5, 10, 0);
+
+    @Autowired
+    private MetricRollupService metricRollupService;
+
+    @Autowired
+    private MetricService metricService;
+
+    @Autowired
+    private MetricRepository metricRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void uploadDuringRebuildIsMergedIntoRebuiltRollups() throws Exception {
+        Long userId = createUser();
+        metricRepository.upsertAll(userId, List.of(new MetricPoint(null, Metric.MetricType.STEPS, 100, HOUR)));
+
+        CountDownLatch rebuilt = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    metricRollupService.rebuild(userId);
+                    rebuilt.countDown();
+                    await(release);
+                }));
+        assertThat(rebuilt.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> upload = CompletableFuture.runAsync(() -> {
+            try {
+                metricService.ingest(userId, new ByteArrayInputStream(
+                        "[{\"type\":\"STEPS\",\"value\":50,\"recordedAt\":\"2026-01-05T10:30:00\"}]"
+                                .getBytes(StandardCharsets.UTF_8)));
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        Thread.sleep(300);
+        assertThat(upload).isNotDone();
+
+        release.countDown();
+        rebuild.get(10, TimeUnit.SECONDS);
+        upload.get(10, TimeUnit.SECONDS);
+
+        assertThat(metricRollupService.aggregateByType(userId, HOUR, HOUR.plusHours(1)))
+                .singleElement()
+                .satisfies(aggregate -> {
+                    assertThat(aggregate.getTotal()).isEqualTo(150);
+                    assertThat(aggregate.getCount()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void rebuildMatchesIncrementalRollups() throws Exception {
+        Long userId = createUser();
+        MetricBatchResultDto result = metricService.ingest(userId, new ByteArrayInputStream((
+                "{\"type\":\"STEPS\",\"value\":10,\"recordedAt\":\"2026-01-05T10:00:00\"}\n" +
+                "{\"type\":\"STEPS\",\"value\":20,\"recordedAt\":\"2026-01-05T10:15:00\"}\n" +
+                "{\"type\":\"STEPS\",\"value\":30,\"recordedAt\":\"2026-01-05T10:00:00\"}\n")
+                .getBytes(StandardCharsets.UTF_8)));
+        // The repeated 10:00 sample replaces the first one
+        assertThat(result.getAccepted()).isEqualTo(2);
+        List<MetricAggregate> incremental = metricRollupService.aggregateByType(userId, HOUR, HOUR.plusHours(1));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> metricRollupService.rebuild(userId));
+
+        assertThat(metricRollupService.aggregateByType(userId, HOUR, HOUR.plusHours(1)))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(incremental)
+                .singleElement()
+                .satisfies(aggregate -> assertThat(aggregate.getTotal()).isEqualTo(50));
+    }
+
+    @Test
+    void rebuildDropsStatsSnapshots() {
+        Long userId = createUser();
+        assertThat(statsService.getStats(userId, "week").getOverview()).isEmpty();
+
+        // Stored without an upload, so only the rebuild picks it up
+        metricRepository.upsertAll(userId, List.of(
+                new MetricPoint(null, Metric.MetricType.STEPS, 100, LocalDateTime.now().withNano(0))));
+        assertThat(statsService.getStats(userId, "week").getOverview()).isEmpty();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> metricRollupService.rebuild(userId));
+
+        assertThat(statsService.getStats(userId, "week").getOverview()).hasSize(1);
+    }
+
+    private Long createUser() {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .password("unused")
+                .name("Uploader")
+                .createdAt(LocalDateTime.now())
+                .active(true)
+                .build()).getId();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
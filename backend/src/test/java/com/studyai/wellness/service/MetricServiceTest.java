@@ -0,0 +1,101 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.dto.MetricBatchResultDto;
+import com.studyai.wellness.entity.User;
+import com.studyai.wellness.repository.MetricRepository;
+import com.studyai.wellness.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Overlapping uploads of {@link MetricService}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MetricServiceTest {
+
+    private static final String UPLOAD =
+            "{\"type\":\"STEPS\",\"value\":10,\"recordedAt\":\"2026-01-05T10:00:00\"}\n" +
+            "{\"type\":\"SLEEP_HOURS\",\"value\":7,\"recordedAt\":\"2026-01-05T10:00:00\"}\n";
+
+    @Autowired
+    private MetricService metricService;
+
+    @Autowired
+    private MetricRepository metricRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void retryRacingTheOriginalUploadStoresSamplesOnce() throws Exception {
+        Long userId = createUser();
+
+        // Hold the user lock so that both uploads start their batch before either writes
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    userRepository.lockById(userId);
+                    locked.countDown();
+                    await(release);
+                }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<MetricBatchResultDto> original = CompletableFuture.supplyAsync(() -> upload(userId));
+        CompletableFuture<MetricBatchResultDto> retry = CompletableFuture.supplyAsync(() -> upload(userId));
+        Thread.sleep(300);
+        assertThat(original).isNotDone();
+        assertThat(retry).isNotDone();
+
+        release.countDown();
+        holder.get(10, TimeUnit.SECONDS);
+
+        assertThat(original.get(10, TimeUnit.SECONDS).getAccepted()).isEqualTo(2);
+        assertThat(retry.get(10, TimeUnit.SECONDS).getAccepted()).isEqualTo(2);
+        assertThat(metricRepository.findLatestMetricsByUserId(userId, 5)).hasSize(2);
+    }
+
+    private MetricBatchResultDto upload(Long userId) {
+        try {
+            return metricService.ingest(userId, new ByteArrayInputStream(UPLOAD.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private Long createUser() {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .password("unused")
+                .name("Uploader")
+                .createdAt(LocalDateTime.now())
+                .active(true)
+                .build()).getId();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.studyai.wellness.service;
+
+import com.studyai.wellness.entity.Notification;
+import com.studyai.wellness.entity.User;
+import com.studyai.wellness.repository.NotificationRepository;
+import com.studyai.wellness.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement counts of {@link NotificationService} write paths.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationServiceTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1000})
+    void markAllAsReadIsOneUpdateWhateverTheRowCount(int unread) {
+        Long userId = seedUnread(unread);
+        unreadNotificationCounter.reconcile();
+        assertThat(notificationService.getUnreadCount(userId)).isEqualTo(unread);
+        statistics.clear();
+
+        notificationService.markAllAsRead(userId);
+
+        // One UPDATE of the notifications and one of the user's unread counter
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getQueries()).satisfiesExactlyInAnyOrder(
+                query -> assertThat(query).startsWith("UPDATE Notification n "),
+                query -> assertThat(query).startsWith("UPDATE NotificationCounter c "));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(notificationRepository.countByUserIdAndReadFalse(userId)).isZero();
+        assertThat(notificationService.getUnreadCount(userId)).isZero();
+    }
+
+    private Long seedUnread(int count) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User user = userRepository.save(User.builder()
+                    .email(UUID.randomUUID() + "@example.com")
+                    .password("unused")
+                    .name("Reader")
+                    .createdAt(LocalDateTime.now())
+                    .active(true)
+                    .build());
+            notificationRepository.saveAll(IntStream.range(0, count)
+                    .mapToObj(i -> Notification.builder()
+                            .user(user)
+                            .title("Notification " + i)
+                            .message("Unread")
+                            .type(Notification.NotificationType.REMINDER)
+                            .read(false)
+                            .createdAt(LocalDateTime.now().minusMinutes(i))
+                            .build())
+                    .toList());
+            return user.getId();
+        });
+    }
+}
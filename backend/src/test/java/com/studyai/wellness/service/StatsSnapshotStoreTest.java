@@ -0,0 +1,105 @@
+package com.studyai.wellness.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Interleavings of snapshot loads with committing writes.
+ */
+class StatsSnapshotStoreTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 4);
+
+    private final StatsSnapshotStore store =
+            new StatsSnapshotStore("maximumSize=100", Duration.ofMinutes(15), new SimpleMeterRegistry());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private List<TransactionSynchronization> synchronizations;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        store.recordCheckIn(USER_ID, TODAY);
+        synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void writeCommittedAfterLoadAdvancesCachedSnapshot() {
+        get();
+
+        commit();
+
+        assertThat(get().getCompletionsByDay()).containsEntry(TODAY, 1L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void snapshotLoadedDuringCommitIsNotCached() {
+        synchronizations.forEach(s -> s.beforeCommit(false));
+        get();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        get();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void rolledBackWriteLeavesSnapshotUnchanged() {
+        get();
+
+        synchronizations.forEach(s -> s.beforeCommit(false));
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(get().getCompletionsByDay()).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    private void commit() {
+        synchronizations.forEach(s -> s.beforeCommit(false));
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private StatsSnapshot get() {
+        return store.get(USER_ID, StatsPeriod.WEEK, TODAY, () -> {
+            loads.incrementAndGet();
+            Instant now = Instant.now();
+            return StatsSnapshot.builder()
+                    .period(StatsPeriod.WEEK)
+                    .start(StatsPeriod.WEEK.start(TODAY))
+                    .end(StatsPeriod.WEEK.end(TODAY))
+                    .activeHabitCount(1)
+                    .completionsByDay(Map.of())
+                    .totals(Map.of())
+                    .counts(Map.of())
+                    .latestMetrics(List.of())
+                    .achievements(List.of())
+                    .goals(List.of())
+                    .builtAt(now)
+                    .asOf(now)
+                    .build();
+        });
+    }
+}